@@ -0,0 +1,66 @@
+package com.example.taskapi.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.journal")
+@Validated
+public class JournalProperties {
+
+    private boolean enabled = false;
+
+    @NotBlank
+    private String directory = "data/journal";
+
+    @Min(1)
+    private int maxBatchSize = 512;
+
+    private Duration commitDelay = Duration.ZERO;
+
+    private DataSize compactionThreshold = DataSize.ofMegabytes(64);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public Duration getCommitDelay() {
+        return commitDelay;
+    }
+
+    public void setCommitDelay(Duration commitDelay) {
+        this.commitDelay = commitDelay;
+    }
+
+    public DataSize getCompactionThreshold() {
+        return compactionThreshold;
+    }
+
+    public void setCompactionThreshold(DataSize compactionThreshold) {
+        this.compactionThreshold = compactionThreshold;
+    }
+}
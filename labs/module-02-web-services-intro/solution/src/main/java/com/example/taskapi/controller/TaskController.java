@@ -3,14 +3,19 @@ package com.example.taskapi.controller;
 import com.example.taskapi.dto.CreateTaskRequest;
 import com.example.taskapi.dto.UpdateTaskRequest;
 import com.example.taskapi.model.Task;
+import com.example.taskapi.model.TaskPriority;
+import com.example.taskapi.model.TaskStatus;
 import com.example.taskapi.service.TaskService;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/tasks")
@@ -32,6 +37,34 @@ public class TaskController {
         return taskService.findById(id);
     }
 
+    @GetMapping("/status/{status}")
+    public List<Task> getTasksByStatus(@PathVariable TaskStatus status) {
+        return taskService.findByStatus(status);
+    }
+
+    @GetMapping("/priority/{priority}")
+    public List<Task> getTasksByPriority(@PathVariable TaskPriority priority) {
+        return taskService.findByPriority(priority);
+    }
+
+    @GetMapping("/due")
+    public List<Task> getTasksDueBetween(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return taskService.findDueBetween(from, to);
+    }
+
+    @GetMapping("/stats")
+    public TaskStats getStats() {
+        Map<TaskStatus, Long> counts = taskService.countByStatus();
+        return new TaskStats(
+            counts.get(TaskStatus.TODO),
+            counts.get(TaskStatus.IN_PROGRESS),
+            counts.get(TaskStatus.COMPLETED),
+            counts.get(TaskStatus.CANCELLED)
+        );
+    }
+
     @PostMapping
     public ResponseEntity<Task> createTask(@Valid @RequestBody CreateTaskRequest request) {
         Task task = taskService.create(request);
@@ -50,4 +83,6 @@ public class TaskController {
     public void deleteTask(@PathVariable Long id) {
         taskService.delete(id);
     }
+
+    public record TaskStats(long todo, long inProgress, long completed, long cancelled) {}
 }
@@ -0,0 +1,462 @@
+package com.example.taskapi.journal;
+
+import com.example.taskapi.config.JournalProperties;
+import com.example.taskapi.model.Task;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Append-only journal stored as numbered segment files plus a compacted snapshot.
+ * <p>
+ * A single writer thread drains queued records, writes them with one channel write
+ * and makes the whole batch durable with one {@code force}, so concurrent writers
+ * share each fsync. Recovery reads the snapshot and the remaining segments through
+ * memory-mapped regions. Once the segments grow past the compaction threshold the
+ * writer rolls to a new segment and a background thread folds the old snapshot and
+ * the closed segments into a fresh snapshot, after which those segments are deleted.
+ * The snapshot is built from the durable records alone, so it does not depend on
+ * which writes the store has applied in memory.
+ * <p>
+ * A failed write is fatal: the segment is truncated back to the end of the last
+ * durable batch, the batch and everything queued after it fail, and every later
+ * append is rejected. Nothing is ever appended after a record of unknown state.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.journal", name = "enabled", havingValue = "true")
+public class FileTaskJournal implements TaskJournal {
+
+    private static final Logger log = LoggerFactory.getLogger(FileTaskJournal.class);
+
+    private static final String SNAPSHOT_FILE = "snapshot.dat";
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final int SNAPSHOT_MAGIC = 0x54534E50;
+    private static final int SNAPSHOT_HEADER_BYTES = 12;
+    private static final long MAX_MAPPED_REGION = 1L << 30;
+
+    private final JournalProperties properties;
+    private final Path directory;
+    private final BlockingQueue<Command> queue = new LinkedBlockingQueue<>();
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(
+        runnable -> daemon(runnable, "task-journal-compactor"));
+    private final AtomicBoolean compactionPending = new AtomicBoolean();
+
+    private Thread writer;
+    private FileChannel channel;
+    private long segment;
+    private long durableEnd;
+    private volatile long bytesSinceSnapshot;
+    private volatile boolean running;
+    private volatile UncheckedIOException failure;
+
+    public FileTaskJournal(JournalProperties properties) {
+        this.properties = properties;
+        this.directory = Paths.get(properties.getDirectory());
+    }
+
+    @Override
+    public synchronized Collection<Task> recover() {
+        if (running) {
+            throw new IllegalStateException("Journal has already been recovered");
+        }
+        long started = System.nanoTime();
+        try {
+            Files.createDirectories(directory);
+            Map<Long, Task> tasks = new HashMap<>();
+
+            long firstSegment = 1;
+            Path snapshot = directory.resolve(SNAPSHOT_FILE);
+            if (Files.exists(snapshot)) {
+                firstSegment = readSnapshot(snapshot, tasks);
+            }
+
+            List<Long> segments = listSegments(firstSegment);
+            long replayed = 0;
+            for (int i = 0; i < segments.size(); i++) {
+                boolean last = i == segments.size() - 1;
+                replayed += replaySegment(segmentPath(segments.get(i)), tasks, last);
+            }
+
+            segment = segments.isEmpty() ? firstSegment : segments.get(segments.size() - 1);
+            channel = openSegment(segmentPath(segment), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            durableEnd = channel.size();
+            channel.position(durableEnd);
+            bytesSinceSnapshot = replayed;
+
+            running = true;
+            writer = daemon(this::runWriter, "task-journal-writer");
+            writer.start();
+
+            log.info("Recovered {} tasks from {} journal bytes in {} ms", tasks.size(), replayed,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            return tasks.values();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to recover task journal from " + directory, e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> append(Task task) {
+        return enqueue(TaskRecordCodec.upsert(task));
+    }
+
+    @Override
+    public CompletableFuture<Void> appendDelete(Long id) {
+        return enqueue(TaskRecordCodec.delete(id));
+    }
+
+    @Override
+    public void compactIfNeeded() {
+        if (bytesSinceSnapshot >= properties.getCompactionThreshold().toBytes()
+                && compactionPending.compareAndSet(false, true)) {
+            queue.add(new Compact());
+        }
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException, IOException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        writer.join();
+        // Appends that passed the running check while the writer was stopping
+        failQueued(new IllegalStateException("Journal is closed"));
+        compactor.shutdown();
+        compactor.awaitTermination(1, TimeUnit.MINUTES);
+        channel.close();
+    }
+
+    private CompletableFuture<Void> enqueue(byte[] frame) {
+        if (!running) {
+            throw new IllegalStateException("Journal is not open");
+        }
+        if (failure != null) {
+            return CompletableFuture.failedFuture(failure);
+        }
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        Append append = new Append(frame, done);
+        queue.add(append);
+        // close() may have drained the queue between the running check and the add
+        if (!running && queue.remove(append)) {
+            done.completeExceptionally(new IllegalStateException("Journal is closed"));
+        }
+        return done;
+    }
+
+    private void failQueued(RuntimeException cause) {
+        List<Command> leftover = new ArrayList<>();
+        queue.drainTo(leftover);
+        for (Command command : leftover) {
+            if (command instanceof Append append) {
+                append.done().completeExceptionally(cause);
+            } else {
+                compactionPending.set(false);
+            }
+        }
+    }
+
+    private void runWriter() {
+        List<Command> batch = new ArrayList<>();
+        while (running || !queue.isEmpty()) {
+            try {
+                Command first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collect(batch);
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void collect(List<Command> batch) throws InterruptedException {
+        int maxBatchSize = properties.getMaxBatchSize();
+        queue.drainTo(batch, maxBatchSize - batch.size());
+
+        long delay = properties.getCommitDelay().toNanos();
+        long deadline = System.nanoTime() + delay;
+        while (delay > 0 && batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            Command next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+            queue.drainTo(batch, maxBatchSize - batch.size());
+        }
+    }
+
+    private void process(List<Command> batch) {
+        List<Append> pending = new ArrayList<>();
+        for (Command command : batch) {
+            if (command instanceof Append append) {
+                pending.add(append);
+            } else if (command instanceof Compact) {
+                commit(pending);
+                pending.clear();
+                startCompaction();
+            }
+        }
+        commit(pending);
+    }
+
+    private void commit(List<Append> appends) {
+        if (appends.isEmpty()) {
+            return;
+        }
+        if (failure != null) {
+            appends.forEach(append -> append.done().completeExceptionally(failure));
+            return;
+        }
+        int size = 0;
+        for (Append append : appends) {
+            size += append.frame().length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        for (Append append : appends) {
+            buffer.put(append.frame());
+        }
+        buffer.flip();
+
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+            durableEnd += size;
+            bytesSinceSnapshot += size;
+            appends.forEach(append -> append.done().complete(null));
+        } catch (IOException e) {
+            log.error("Failed to write {} journal records, rejecting further appends", appends.size(), e);
+            fail(new UncheckedIOException("Task journal write failed", e));
+            appends.forEach(append -> append.done().completeExceptionally(failure));
+        }
+    }
+
+    // Drops any partial frame so recovery sees exactly the batches that were acknowledged
+    private void fail(UncheckedIOException cause) {
+        failure = cause;
+        try {
+            channel.truncate(durableEnd);
+            channel.position(durableEnd);
+            channel.force(false);
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+            log.error("Failed to truncate journal segment {} back to offset {}", segment, durableEnd, e);
+        }
+        failQueued(cause);
+    }
+
+    private void startCompaction() {
+        if (failure != null) {
+            compactionPending.set(false);
+            return;
+        }
+        long nextSegment = segment + 1;
+        try {
+            FileChannel next = openSegment(segmentPath(nextSegment),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            channel.force(false);
+            channel.close();
+            channel = next;
+            segment = nextSegment;
+            durableEnd = 0;
+            bytesSinceSnapshot = 0;
+        } catch (IOException e) {
+            log.error("Failed to roll journal segment, skipping compaction", e);
+            compactionPending.set(false);
+            return;
+        }
+
+        compactor.execute(() -> {
+            try {
+                Collection<Task> liveTasks = readBefore(nextSegment);
+                writeSnapshot(liveTasks, nextSegment);
+                deleteSegmentsBefore(nextSegment);
+                log.info("Compacted journal into snapshot of {} tasks", liveTasks.size());
+            } catch (IOException e) {
+                log.error("Failed to write journal snapshot", e);
+            } finally {
+                compactionPending.set(false);
+            }
+        });
+    }
+
+    // Tasks as of the end of the closed segments below endSegment
+    private Collection<Task> readBefore(long endSegment) throws IOException {
+        Map<Long, Task> tasks = new HashMap<>();
+        long firstSegment = 1;
+        Path snapshot = directory.resolve(SNAPSHOT_FILE);
+        if (Files.exists(snapshot)) {
+            firstSegment = readSnapshot(snapshot, tasks);
+        }
+        for (long number : listSegments(firstSegment)) {
+            if (number < endSegment) {
+                replaySegment(segmentPath(number), tasks, false);
+            }
+        }
+        return tasks.values();
+    }
+
+    private void writeSnapshot(Collection<Task> liveTasks, long firstSegment) throws IOException {
+        Path temp = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream stream = new DataOutputStream(
+                new BufferedOutputStream(Channels.newOutputStream(out), 1 << 16));
+            stream.writeInt(SNAPSHOT_MAGIC);
+            stream.writeLong(firstSegment);
+            for (Task task : liveTasks) {
+                stream.write(TaskRecordCodec.upsert(task));
+            }
+            stream.flush();
+            out.force(true);
+        }
+        Files.move(temp, directory.resolve(SNAPSHOT_FILE),
+            StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private long readSnapshot(Path snapshot, Map<Long, Task> tasks) throws IOException {
+        try (FileChannel in = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            if (in.size() < SNAPSHOT_HEADER_BYTES) {
+                throw new IllegalStateException("Invalid journal snapshot: " + snapshot);
+            }
+            ByteBuffer header = in.map(FileChannel.MapMode.READ_ONLY, 0, SNAPSHOT_HEADER_BYTES);
+            if (header.getInt() != SNAPSHOT_MAGIC) {
+                throw new IllegalStateException("Invalid journal snapshot: " + snapshot);
+            }
+            long firstSegment = header.getLong();
+            long end = replay(in, SNAPSHOT_HEADER_BYTES, tasks);
+            if (end != in.size()) {
+                throw new IllegalStateException("Corrupt journal snapshot at offset " + end + ": " + snapshot);
+            }
+            return firstSegment;
+        }
+    }
+
+    private long replaySegment(Path file, Map<Long, Task> tasks, boolean last) throws IOException {
+        OpenOption[] options = last
+            ? new OpenOption[] {StandardOpenOption.READ, StandardOpenOption.WRITE}
+            : new OpenOption[] {StandardOpenOption.READ};
+        try (FileChannel in = FileChannel.open(file, options)) {
+            long end = replay(in, 0, tasks);
+            if (end != in.size()) {
+                if (!last) {
+                    throw new IllegalStateException("Corrupt journal segment at offset " + end + ": " + file);
+                }
+                log.warn("Truncating torn journal tail of {} at offset {}", file, end);
+                in.truncate(end);
+            }
+            return end;
+        }
+    }
+
+    /**
+     * Replays frames from {@code offset} through memory-mapped regions and returns the
+     * offset just past the last valid frame.
+     */
+    private long replay(FileChannel in, long offset, Map<Long, Task> tasks) throws IOException {
+        long size = in.size();
+        long position = offset;
+        while (position < size) {
+            long regionSize = Math.min(size - position, MAX_MAPPED_REGION);
+            MappedByteBuffer region = in.map(FileChannel.MapMode.READ_ONLY, position, regionSize);
+            int consumed = TaskRecordCodec.readFrames(region, tasks);
+            if (consumed == 0) {
+                break;
+            }
+            position += consumed;
+        }
+        return position;
+    }
+
+    private List<Long> listSegments(long firstSegment) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .map(path -> path.getFileName().toString())
+                .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                .map(name -> Long.parseLong(name.substring(SEGMENT_PREFIX.length(),
+                    name.length() - SEGMENT_SUFFIX.length())))
+                .filter(number -> number >= firstSegment)
+                .sorted()
+                .toList();
+        }
+    }
+
+    private void deleteSegmentsBefore(long firstSegment) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path path : files.toList()) {
+                String name = path.getFileName().toString();
+                if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)) {
+                    long number = Long.parseLong(name.substring(SEGMENT_PREFIX.length(),
+                        name.length() - SEGMENT_SUFFIX.length()));
+                    if (number < firstSegment) {
+                        Files.deleteIfExists(path);
+                    }
+                }
+            }
+        }
+    }
+
+    // Overridable so tests can inject write failures
+    FileChannel openSegment(Path path, OpenOption... options) throws IOException {
+        return FileChannel.open(path, options);
+    }
+
+    private Path segmentPath(long number) {
+        return directory.resolve(String.format("%s%019d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private sealed interface Command permits Append, Compact {
+    }
+
+    private record Append(byte[] frame, CompletableFuture<Void> done) implements Command {
+    }
+
+    private record Compact() implements Command {
+    }
+}
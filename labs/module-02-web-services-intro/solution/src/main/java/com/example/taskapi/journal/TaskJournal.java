@@ -0,0 +1,23 @@
+package com.example.taskapi.journal;
+
+import com.example.taskapi.model.Task;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Write-ahead log for the in-memory task store.
+ * Records for the same task are appended in the order they are applied; records for
+ * different tasks may arrive in any order. The returned future completes once the
+ * record is durable.
+ */
+public interface TaskJournal {
+
+    Collection<Task> recover();
+
+    CompletableFuture<Void> append(Task task);
+
+    CompletableFuture<Void> appendDelete(Long id);
+
+    void compactIfNeeded();
+}
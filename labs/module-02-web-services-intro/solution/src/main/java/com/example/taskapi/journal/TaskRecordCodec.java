@@ -0,0 +1,162 @@
+package com.example.taskapi.journal;
+
+import com.example.taskapi.model.Task;
+import com.example.taskapi.model.TaskPriority;
+import com.example.taskapi.model.TaskStatus;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Binary framing for journal and snapshot records.
+ * Each frame is {@code [int payloadLength][int crc32][payload]}, where the payload
+ * starts with a one-byte record type.
+ */
+final class TaskRecordCodec {
+
+    static final int FRAME_HEADER_BYTES = 8;
+
+    private static final byte UPSERT = 1;
+    private static final byte DELETE = 2;
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+
+    private TaskRecordCodec() {
+    }
+
+    static byte[] upsert(Task task) {
+        byte[] title = bytes(task.getTitle());
+        byte[] description = bytes(task.getDescription());
+        int payloadLength = 1 + 8 + 1 + 1 + 12 + 12 + 1 + (task.getDueDate() != null ? 12 : 0)
+            + 4 + length(title) + 4 + length(description);
+
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER_BYTES + payloadLength);
+        frame.position(FRAME_HEADER_BYTES);
+        frame.put(UPSERT);
+        frame.putLong(task.getId());
+        frame.put((byte) task.getStatus().ordinal());
+        frame.put((byte) task.getPriority().ordinal());
+        putDateTime(frame, task.getCreatedAt());
+        putDateTime(frame, task.getUpdatedAt());
+        if (task.getDueDate() != null) {
+            frame.put((byte) 1);
+            putDateTime(frame, task.getDueDate());
+        } else {
+            frame.put((byte) 0);
+        }
+        putBytes(frame, title);
+        putBytes(frame, description);
+        return seal(frame, payloadLength);
+    }
+
+    static byte[] delete(Long id) {
+        int payloadLength = 1 + 8;
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER_BYTES + payloadLength);
+        frame.position(FRAME_HEADER_BYTES);
+        frame.put(DELETE);
+        frame.putLong(id);
+        return seal(frame, payloadLength);
+    }
+
+    /**
+     * Applies every complete, checksum-valid frame in {@code buffer} to {@code tasks}
+     * and returns the number of bytes consumed. Reading stops at the first frame that
+     * is truncated or fails its checksum.
+     */
+    static int readFrames(ByteBuffer buffer, Map<Long, Task> tasks) {
+        CRC32 crc = new CRC32();
+        int start = buffer.position();
+        while (buffer.remaining() >= FRAME_HEADER_BYTES) {
+            int frameStart = buffer.position();
+            int payloadLength = buffer.getInt();
+            int checksum = buffer.getInt();
+            if (payloadLength <= 0 || payloadLength > buffer.remaining()) {
+                buffer.position(frameStart);
+                break;
+            }
+
+            ByteBuffer payload = buffer.slice(buffer.position(), payloadLength);
+            crc.reset();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                buffer.position(frameStart);
+                break;
+            }
+
+            apply(payload, tasks);
+            buffer.position(buffer.position() + payloadLength);
+        }
+        return buffer.position() - start;
+    }
+
+    private static void apply(ByteBuffer payload, Map<Long, Task> tasks) {
+        byte type = payload.get();
+        long id = payload.getLong();
+        if (type == DELETE) {
+            tasks.remove(id);
+            return;
+        }
+
+        Task task = new Task();
+        task.setId(id);
+        task.setStatus(STATUSES[payload.get()]);
+        task.setPriority(PRIORITIES[payload.get()]);
+        task.setCreatedAt(getDateTime(payload));
+        task.setUpdatedAt(getDateTime(payload));
+        task.setDueDate(payload.get() == 1 ? getDateTime(payload) : null);
+        task.setTitle(getString(payload));
+        task.setDescription(getString(payload));
+        tasks.put(id, task);
+    }
+
+    private static byte[] seal(ByteBuffer frame, int payloadLength) {
+        CRC32 crc = new CRC32();
+        crc.update(frame.array(), FRAME_HEADER_BYTES, payloadLength);
+        frame.putInt(0, payloadLength);
+        frame.putInt(4, (int) crc.getValue());
+        return frame.array();
+    }
+
+    private static void putDateTime(ByteBuffer buffer, LocalDateTime value) {
+        buffer.putLong(value.toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(value.getNano());
+    }
+
+    private static LocalDateTime getDateTime(ByteBuffer buffer) {
+        long seconds = buffer.getLong();
+        int nanos = buffer.getInt();
+        return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+
+    private static byte[] bytes(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int length(byte[] value) {
+        return value == null ? 0 : value.length;
+    }
+
+    private static void putBytes(ByteBuffer buffer, byte[] value) {
+        if (value == null) {
+            buffer.putInt(-1);
+        } else {
+            buffer.putInt(value.length);
+            buffer.put(value);
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] value = new byte[length];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
@@ -20,6 +20,17 @@ public class Task {
         this.priority = TaskPriority.MEDIUM;
     }
 
+    public Task(Task other) {
+        this.id = other.id;
+        this.title = other.title;
+        this.description = other.description;
+        this.status = other.status;
+        this.priority = other.priority;
+        this.createdAt = other.createdAt;
+        this.updatedAt = other.updatedAt;
+        this.dueDate = other.dueDate;
+    }
+
     public Long getId() {
         return id;
     }
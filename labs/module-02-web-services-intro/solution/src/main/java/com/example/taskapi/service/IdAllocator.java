@@ -0,0 +1,39 @@
+package com.example.taskapi.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out unique task ids from per-thread blocks.
+ * Each thread reserves {@code blockSize} ids at a time from the shared counter and
+ * then allocates from its own block without touching shared state, so concurrent
+ * creates only meet on the counter once per block. Ids stay unique but are not
+ * dense or ordered across threads.
+ */
+class IdAllocator {
+
+    private final AtomicLong nextBlock;
+    private final int blockSize;
+    private final ThreadLocal<Block> blocks = ThreadLocal.withInitial(Block::new);
+
+    IdAllocator(long firstId, int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be at least 1");
+        }
+        this.nextBlock = new AtomicLong(firstId);
+        this.blockSize = blockSize;
+    }
+
+    long next() {
+        Block block = blocks.get();
+        if (block.next == block.limit) {
+            block.next = nextBlock.getAndAdd(blockSize);
+            block.limit = block.next + blockSize;
+        }
+        return block.next++;
+    }
+
+    private static final class Block {
+        private long next;
+        private long limit;
+    }
+}
@@ -0,0 +1,269 @@
+package com.example.taskapi.service;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable sorted map backed by a path-copying AVL tree.
+ * Every write returns a new map that shares all untouched nodes with the old one,
+ * so older versions stay valid and can be read without locking.
+ */
+final class PersistentTreeMap<K extends Comparable<? super K>, V> {
+
+    private static final PersistentTreeMap<?, ?> EMPTY = new PersistentTreeMap<>(null);
+
+    private final Node<K, V> root;
+
+    private PersistentTreeMap(Node<K, V> root) {
+        this.root = root;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <K extends Comparable<? super K>, V> PersistentTreeMap<K, V> empty() {
+        return (PersistentTreeMap<K, V>) EMPTY;
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    // Levels in the tree; an AVL tree of n keys never exceeds about 1.44 log2(n)
+    int height() {
+        return height(root);
+    }
+
+    V get(K key) {
+        Node<K, V> node = root;
+        while (node != null) {
+            int cmp = key.compareTo(node.key);
+            if (cmp == 0) {
+                return node.value;
+            }
+            node = cmp < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    PersistentTreeMap<K, V> put(K key, V value) {
+        Node<K, V> updated = put(root, key, value);
+        return updated == root ? this : new PersistentTreeMap<>(updated);
+    }
+
+    PersistentTreeMap<K, V> remove(K key) {
+        Node<K, V> updated = remove(root, key);
+        return updated == root ? this : new PersistentTreeMap<>(updated);
+    }
+
+    /**
+     * Read-only view of all values in key order. Indexed access is O(log n)
+     * and iteration walks the tree directly, so no copy is made.
+     */
+    List<V> values() {
+        return new ValuesView<>(root, 0, size());
+    }
+
+    /**
+     * Read-only view of the values whose keys fall in {@code [from, to]}.
+     */
+    List<V> values(K from, K to) {
+        int start = rank(root, from, false);
+        int end = rank(root, to, true);
+        return new ValuesView<>(root, start, Math.max(start, end));
+    }
+
+    private static int size(Node<?, ?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?, ?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static <K extends Comparable<? super K>, V> Node<K, V> put(Node<K, V> node, K key, V value) {
+        if (node == null) {
+            return new Node<>(key, value, null, null);
+        }
+        int cmp = key.compareTo(node.key);
+        if (cmp < 0) {
+            return balance(node.key, node.value, put(node.left, key, value), node.right);
+        }
+        if (cmp > 0) {
+            return balance(node.key, node.value, node.left, put(node.right, key, value));
+        }
+        return node.value == value ? node : new Node<>(key, value, node.left, node.right);
+    }
+
+    private static <K extends Comparable<? super K>, V> Node<K, V> remove(Node<K, V> node, K key) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = key.compareTo(node.key);
+        if (cmp < 0) {
+            Node<K, V> left = remove(node.left, key);
+            return left == node.left ? node : balance(node.key, node.value, left, node.right);
+        }
+        if (cmp > 0) {
+            Node<K, V> right = remove(node.right, key);
+            return right == node.right ? node : balance(node.key, node.value, node.left, right);
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        Node<K, V> min = node.right;
+        while (min.left != null) {
+            min = min.left;
+        }
+        return balance(min.key, min.value, node.left, remove(node.right, min.key));
+    }
+
+    private static <K, V> Node<K, V> balance(K key, V value, Node<K, V> left, Node<K, V> right) {
+        int leftHeight = height(left);
+        int rightHeight = height(right);
+        if (leftHeight > rightHeight + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.key, left.value, left.left, new Node<>(key, value, left.right, right));
+            }
+            Node<K, V> pivot = left.right;
+            return new Node<>(pivot.key, pivot.value,
+                new Node<>(left.key, left.value, left.left, pivot.left),
+                new Node<>(key, value, pivot.right, right));
+        }
+        if (rightHeight > leftHeight + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(right.key, right.value, new Node<>(key, value, left, right.left), right.right);
+            }
+            Node<K, V> pivot = right.left;
+            return new Node<>(pivot.key, pivot.value,
+                new Node<>(key, value, left, pivot.left),
+                new Node<>(right.key, right.value, pivot.right, right.right));
+        }
+        return new Node<>(key, value, left, right);
+    }
+
+    /**
+     * Number of keys strictly below {@code key}, or at or below it when {@code inclusive}.
+     */
+    private static <K extends Comparable<? super K>> int rank(Node<K, ?> node, K key, boolean inclusive) {
+        int rank = 0;
+        while (node != null) {
+            int cmp = key.compareTo(node.key);
+            if (cmp < 0 || (cmp == 0 && !inclusive)) {
+                node = node.left;
+            } else {
+                rank += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return rank;
+    }
+
+    private static <V> V select(Node<?, V> node, int index) {
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+        throw new IndexOutOfBoundsException();
+    }
+
+    private static final class Node<K, V> {
+        private final K key;
+        private final V value;
+        private final Node<K, V> left;
+        private final Node<K, V> right;
+        private final int height;
+        private final int size;
+
+        private Node(K key, V value, Node<K, V> left, Node<K, V> right) {
+            this.key = key;
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+            this.size = size(left) + size(right) + 1;
+        }
+    }
+
+    private static final class ValuesView<K, V> extends AbstractList<V> {
+        private final Node<K, V> root;
+        private final int start;
+        private final int end;
+
+        private ValuesView(Node<K, V> root, int start, int end) {
+            this.root = root;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public V get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return select(root, start + index);
+        }
+
+        @Override
+        public int size() {
+            return end - start;
+        }
+
+        @Override
+        public Iterator<V> iterator() {
+            return new Iterator<>() {
+                private final Deque<Node<K, V>> path = descendTo(start);
+                private int remaining = size();
+
+                @Override
+                public boolean hasNext() {
+                    return remaining > 0;
+                }
+
+                @Override
+                public V next() {
+                    if (remaining == 0) {
+                        throw new NoSuchElementException();
+                    }
+                    Node<K, V> node = path.pop();
+                    for (Node<K, V> n = node.right; n != null; n = n.left) {
+                        path.push(n);
+                    }
+                    remaining--;
+                    return node.value;
+                }
+            };
+        }
+
+        private Deque<Node<K, V>> descendTo(int index) {
+            Deque<Node<K, V>> path = new ArrayDeque<>();
+            Node<K, V> node = root;
+            while (node != null) {
+                int leftSize = PersistentTreeMap.size(node.left);
+                if (index <= leftSize) {
+                    path.push(node);
+                    if (index == leftSize) {
+                        break;
+                    }
+                    node = node.left;
+                } else {
+                    index -= leftSize + 1;
+                    node = node.right;
+                }
+            }
+            return path;
+        }
+    }
+}
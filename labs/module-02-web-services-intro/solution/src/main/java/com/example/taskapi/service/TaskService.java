@@ -4,24 +4,29 @@ import com.example.taskapi.dto.CreateTaskRequest;
 import com.example.taskapi.dto.UpdateTaskRequest;
 import com.example.taskapi.exception.TaskNotFoundException;
 import com.example.taskapi.model.Task;
+import com.example.taskapi.model.TaskPriority;
+import com.example.taskapi.model.TaskStatus;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 public class TaskService {
 
-    private final Map<Long, Task> taskStore = new ConcurrentHashMap<>();
-    private final AtomicLong idGenerator = new AtomicLong(1);
+    private final TaskStore taskStore;
+    private final IdAllocator idAllocator;
 
-    public TaskService() {
-        createSampleTasks();
+    public TaskService(TaskStore taskStore,
+                       @Value("${app.id-allocation.block-size:64}") int idBlockSize) {
+        this.taskStore = taskStore;
+        this.idAllocator = new IdAllocator(taskStore.maxId() + 1, idBlockSize);
+        if (taskStore.size() == 0) {
+            createSampleTasks();
+        }
     }
 
     private void createSampleTasks() {
@@ -37,17 +42,41 @@ public class TaskService {
     }
 
     public List<Task> findAll() {
-        return new ArrayList<>(taskStore.values());
+        return taskStore.findAll();
     }
 
     public Task findById(Long id) {
-        return Optional.ofNullable(taskStore.get(id))
+        return taskStore.get(id)
             .orElseThrow(() -> new TaskNotFoundException(id));
     }
 
+    public List<Task> findByStatus(TaskStatus status) {
+        return taskStore.findByStatus(status);
+    }
+
+    public List<Task> findByPriority(TaskPriority priority) {
+        return taskStore.findByPriority(priority);
+    }
+
+    public List<Task> findDueBetween(LocalDateTime from, LocalDateTime to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        return taskStore.findDueBetween(from, to);
+    }
+
+    public Map<TaskStatus, Long> countByStatus() {
+        TaskStore.Snapshot snapshot = taskStore.snapshot();
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            counts.put(status, snapshot.countByStatus(status));
+        }
+        return counts;
+    }
+
     public Task create(CreateTaskRequest request) {
         Task task = new Task();
-        task.setId(idGenerator.getAndIncrement());
+        task.setId(idAllocator.next());
         task.setTitle(request.getTitle());
         task.setDescription(request.getDescription());
 
@@ -59,42 +88,38 @@ public class TaskService {
             task.setDueDate(request.getDueDate());
         }
 
-        taskStore.put(task.getId(), task);
+        taskStore.insert(task);
         return task;
     }
 
     public Task update(Long id, UpdateTaskRequest request) {
-        Task task = findById(id);
-
-        if (request.getTitle() != null) {
-            task.setTitle(request.getTitle());
-        }
+        return taskStore.update(id, task -> {
+            if (request.getTitle() != null) {
+                task.setTitle(request.getTitle());
+            }
 
-        if (request.getDescription() != null) {
-            task.setDescription(request.getDescription());
-        }
+            if (request.getDescription() != null) {
+                task.setDescription(request.getDescription());
+            }
 
-        if (request.getStatus() != null) {
-            task.setStatus(request.getStatus());
-        }
+            if (request.getStatus() != null) {
+                task.setStatus(request.getStatus());
+            }
 
-        if (request.getPriority() != null) {
-            task.setPriority(request.getPriority());
-        }
+            if (request.getPriority() != null) {
+                task.setPriority(request.getPriority());
+            }
 
-        if (request.getDueDate() != null) {
-            task.setDueDate(request.getDueDate());
-        }
+            if (request.getDueDate() != null) {
+                task.setDueDate(request.getDueDate());
+            }
 
-        task.setUpdatedAt(LocalDateTime.now());
-        taskStore.put(id, task);
-        return task;
+            task.setUpdatedAt(LocalDateTime.now());
+        }).orElseThrow(() -> new TaskNotFoundException(id));
     }
 
     public void delete(Long id) {
-        if (!taskStore.containsKey(id)) {
-            throw new TaskNotFoundException(id);
-        }
-        taskStore.remove(id);
+        taskStore.remove(id)
+            .orElseThrow(() -> new TaskNotFoundException(id));
     }
 }
@@ -0,0 +1,284 @@
+package com.example.taskapi.service;
+
+import com.example.taskapi.journal.TaskJournal;
+import com.example.taskapi.model.Task;
+import com.example.taskapi.model.TaskPriority;
+import com.example.taskapi.model.TaskStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * In-memory task store with secondary indexes on status, priority and due date.
+ * The primary map and every index live in one immutable {@link Snapshot}; writers
+ * build the next version by structural sharing and publish it in a single volatile
+ * write, so readers always see a consistent version without locking or copying.
+ * <p>
+ * Writers append each change to the {@link TaskJournal} and then stage it on
+ * {@code latest}, which may be ahead of what readers see. A staged version carries
+ * the durability of every change it contains, and is published to readers only once
+ * all of them are durable, so a failed write is never observed; the journal rejects
+ * everything after a failure, so no later version can include it either.
+ * <p>
+ * Inserts of new ids stage with a compare-and-set and take no lock, so concurrent
+ * creates share no contended monitor. Updates and removes read the task they change,
+ * so they still serialise with each other on the store monitor.
+ */
+@Component
+public class TaskStore {
+
+    private final TaskJournal journal;
+    private final AtomicReference<Snapshot> current;
+    private final AtomicReference<Staged> latest;
+
+    public TaskStore(TaskJournal journal) {
+        this.journal = journal;
+        Snapshot recovered = Snapshot.EMPTY;
+        for (Task task : journal.recover()) {
+            recovered = recovered.replace(null, task);
+        }
+        this.current = new AtomicReference<>(recovered);
+        this.latest = new AtomicReference<>(new Staged(recovered, CompletableFuture.completedFuture(null)));
+    }
+
+    public Snapshot snapshot() {
+        return current.get();
+    }
+
+    public Optional<Task> get(Long id) {
+        return current.get().get(id);
+    }
+
+    public boolean contains(Long id) {
+        return current.get().get(id).isPresent();
+    }
+
+    public int size() {
+        return current.get().size();
+    }
+
+    public List<Task> findAll() {
+        return current.get().findAll();
+    }
+
+    public List<Task> findByStatus(TaskStatus status) {
+        return current.get().findByStatus(status);
+    }
+
+    public List<Task> findByPriority(TaskPriority priority) {
+        return current.get().findByPriority(priority);
+    }
+
+    public List<Task> findDueBetween(LocalDateTime from, LocalDateTime to) {
+        return current.get().findDueBetween(from, to);
+    }
+
+    public long countByStatus(TaskStatus status) {
+        return current.get().countByStatus(status);
+    }
+
+    public long maxId() {
+        return current.get().maxId();
+    }
+
+    /**
+     * Stores a task under an id that is not yet in the store, without locking.
+     */
+    public void insert(Task task) {
+        CompletableFuture<Void> written = journal.append(task);
+        Staged next = stage(snapshot -> snapshot.replace(snapshot.get(task.getId()).orElse(null), task), written);
+        publishWhenDurable(next);
+    }
+
+    /**
+     * Applies {@code changes} to a copy of the stored task and publishes it.
+     * Task instances already handed to readers are never modified.
+     */
+    public Optional<Task> update(Long id, Consumer<Task> changes) {
+        Task updated;
+        Staged next;
+        synchronized (this) {
+            Task existing = latest.get().snapshot().get(id).orElse(null);
+            if (existing == null) {
+                return Optional.empty();
+            }
+            updated = new Task(existing);
+            changes.accept(updated);
+            next = stage(snapshot -> snapshot.replace(existing, updated), journal.append(updated));
+        }
+        publishWhenDurable(next);
+        return Optional.of(updated);
+    }
+
+    public Optional<Task> remove(Long id) {
+        Task existing;
+        Staged next;
+        synchronized (this) {
+            existing = latest.get().snapshot().get(id).orElse(null);
+            if (existing == null) {
+                return Optional.empty();
+            }
+            next = stage(snapshot -> snapshot.replace(existing, null), journal.appendDelete(id));
+        }
+        publishWhenDurable(next);
+        return Optional.of(existing);
+    }
+
+    // Retried on contention; changes must only depend on the snapshot they are given
+    private Staged stage(UnaryOperator<Snapshot> change, CompletableFuture<Void> written) {
+        while (true) {
+            Staged base = latest.get();
+            CompletableFuture<Void> before = base.durable();
+            CompletableFuture<Void> durable = before.isDone() && !before.isCompletedExceptionally()
+                ? written
+                : CompletableFuture.allOf(before, written);
+            Staged next = new Staged(change.apply(base.snapshot()), durable);
+            if (latest.compareAndSet(base, next)) {
+                journal.compactIfNeeded();
+                return next;
+            }
+        }
+    }
+
+    private void publishWhenDurable(Staged next) {
+        try {
+            next.durable().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        // Writes complete out of order, so a later version may already be published
+        Snapshot published = current.get();
+        while (next.snapshot().version() > published.version()
+                && !current.compareAndSet(published, next.snapshot())) {
+            published = current.get();
+        }
+    }
+
+    /**
+     * A version that may not be durable yet, with a future that completes once every
+     * change it contains is.
+     */
+    private record Staged(Snapshot snapshot, CompletableFuture<Void> durable) {
+    }
+
+    /**
+     * One immutable version of the store.
+     */
+    public static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(0,
+            PersistentTreeMap.empty(), emptyIndex(TaskStatus.class), emptyIndex(TaskPriority.class),
+            PersistentTreeMap.empty());
+
+        private final long version;
+        private final PersistentTreeMap<Long, Task> tasks;
+        private final Map<TaskStatus, PersistentTreeMap<Long, Task>> byStatus;
+        private final Map<TaskPriority, PersistentTreeMap<Long, Task>> byPriority;
+        private final PersistentTreeMap<DueKey, Task> byDueDate;
+
+        private Snapshot(long version,
+                         PersistentTreeMap<Long, Task> tasks,
+                         Map<TaskStatus, PersistentTreeMap<Long, Task>> byStatus,
+                         Map<TaskPriority, PersistentTreeMap<Long, Task>> byPriority,
+                         PersistentTreeMap<DueKey, Task> byDueDate) {
+            this.version = version;
+            this.tasks = tasks;
+            this.byStatus = byStatus;
+            this.byPriority = byPriority;
+            this.byDueDate = byDueDate;
+        }
+
+        public long version() {
+            return version;
+        }
+
+        public Optional<Task> get(Long id) {
+            return Optional.ofNullable(tasks.get(id));
+        }
+
+        public int size() {
+            return tasks.size();
+        }
+
+        public List<Task> findAll() {
+            return tasks.values();
+        }
+
+        public List<Task> findByStatus(TaskStatus status) {
+            return byStatus.get(status).values();
+        }
+
+        public List<Task> findByPriority(TaskPriority priority) {
+            return byPriority.get(priority).values();
+        }
+
+        public List<Task> findDueBetween(LocalDateTime from, LocalDateTime to) {
+            return byDueDate.values(new DueKey(from, Long.MIN_VALUE), new DueKey(to, Long.MAX_VALUE));
+        }
+
+        public long countByStatus(TaskStatus status) {
+            return byStatus.get(status).size();
+        }
+
+        public long maxId() {
+            List<Task> all = tasks.values();
+            return all.isEmpty() ? 0 : all.get(all.size() - 1).getId();
+        }
+
+        private Snapshot replace(Task previous, Task next) {
+            PersistentTreeMap<Long, Task> newTasks = tasks;
+            Map<TaskStatus, PersistentTreeMap<Long, Task>> newByStatus = new EnumMap<>(byStatus);
+            Map<TaskPriority, PersistentTreeMap<Long, Task>> newByPriority = new EnumMap<>(byPriority);
+            PersistentTreeMap<DueKey, Task> newByDueDate = byDueDate;
+
+            if (previous != null) {
+                newTasks = newTasks.remove(previous.getId());
+                newByStatus.computeIfPresent(previous.getStatus(), (s, index) -> index.remove(previous.getId()));
+                newByPriority.computeIfPresent(previous.getPriority(), (p, index) -> index.remove(previous.getId()));
+                if (previous.getDueDate() != null) {
+                    newByDueDate = newByDueDate.remove(new DueKey(previous.getDueDate(), previous.getId()));
+                }
+            }
+
+            if (next != null) {
+                newTasks = newTasks.put(next.getId(), next);
+                newByStatus.computeIfPresent(next.getStatus(), (s, index) -> index.put(next.getId(), next));
+                newByPriority.computeIfPresent(next.getPriority(), (p, index) -> index.put(next.getId(), next));
+                if (next.getDueDate() != null) {
+                    newByDueDate = newByDueDate.put(new DueKey(next.getDueDate(), next.getId()), next);
+                }
+            }
+
+            return new Snapshot(version + 1, newTasks, newByStatus, newByPriority, newByDueDate);
+        }
+
+        private static <E extends Enum<E>> Map<E, PersistentTreeMap<Long, Task>> emptyIndex(Class<E> type) {
+            Map<E, PersistentTreeMap<Long, Task>> index = new EnumMap<>(type);
+            for (E key : type.getEnumConstants()) {
+                index.put(key, PersistentTreeMap.empty());
+            }
+            return index;
+        }
+    }
+
+    private record DueKey(LocalDateTime dueDate, long id) implements Comparable<DueKey> {
+
+        @Override
+        public int compareTo(DueKey other) {
+            int cmp = dueDate.compareTo(other.dueDate);
+            return cmp != 0 ? cmp : Long.compare(id, other.id);
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package com.example.taskapi.journal;
+
+import com.example.taskapi.config.JournalProperties;
+import com.example.taskapi.model.Task;
+import com.example.taskapi.model.TaskStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FileTaskJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private final List<FileTaskJournal> opened = new ArrayList<>();
+
+    @AfterEach
+    void closeJournals() throws Exception {
+        for (FileTaskJournal journal : opened) {
+            journal.close();
+        }
+    }
+
+    @Test
+    void replaysUpsertsAndDeletesAfterReopen() throws Exception {
+        FileTaskJournal journal = open(properties());
+        journal.recover();
+        journal.append(task(1, "Write tests")).join();
+        journal.append(task(2, "Review PR")).join();
+        Task updated = task(1, "Write more tests");
+        updated.setStatus(TaskStatus.IN_PROGRESS);
+        journal.append(updated).join();
+        journal.appendDelete(2L).join();
+        journal.close();
+
+        Map<Long, Task> recovered = byId(open(properties()).recover());
+
+        assertThat(recovered).containsOnlyKeys(1L);
+        assertThat(recovered.get(1L).getTitle()).isEqualTo("Write more tests");
+        assertThat(recovered.get(1L).getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+    }
+
+    @Test
+    void truncatesTornTailAndKeepsAppending() throws Exception {
+        FileTaskJournal journal = open(properties());
+        journal.recover();
+        journal.append(task(1, "First")).join();
+        journal.append(task(2, "Second")).join();
+        journal.close();
+
+        Path segment = onlySegment();
+        long intact = Files.size(segment);
+        byte[] frame = TaskRecordCodec.upsert(task(3, "Torn"));
+        Files.write(segment, Arrays.copyOf(frame, frame.length / 2), StandardOpenOption.APPEND);
+
+        FileTaskJournal reopened = open(properties());
+        assertThat(byId(reopened.recover())).containsOnlyKeys(1L, 2L);
+        assertThat(Files.size(segment)).isEqualTo(intact);
+
+        reopened.append(task(4, "After recovery")).join();
+        reopened.close();
+
+        assertThat(byId(open(properties()).recover())).containsOnlyKeys(1L, 2L, 4L);
+    }
+
+    @Test
+    void failedWriteRejectsLaterAppendsAndLeavesNoPartialRecord() throws Exception {
+        FailingJournal journal = new FailingJournal(properties());
+        opened.add(journal);
+        journal.recover();
+        journal.append(task(1, "Durable")).join();
+        long durable = Files.size(onlySegment());
+
+        journal.failWrites = true;
+        CompletableFuture<Void> failed = journal.append(task(2, "Lost"));
+        assertThatThrownBy(failed::join)
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(UncheckedIOException.class);
+        assertThat(Files.size(onlySegment())).isEqualTo(durable);
+
+        journal.failWrites = false;
+        assertThatThrownBy(() -> journal.append(task(3, "Rejected")).join())
+            .hasCauseInstanceOf(UncheckedIOException.class);
+        assertThatThrownBy(() -> journal.appendDelete(1L).join())
+            .hasCauseInstanceOf(UncheckedIOException.class);
+        journal.close();
+
+        assertThat(byId(open(properties()).recover())).containsOnlyKeys(1L);
+    }
+
+    @Test
+    void compactsIntoSnapshotAndRecoversFromIt() throws Exception {
+        JournalProperties properties = properties();
+        properties.setCompactionThreshold(DataSize.ofBytes(1));
+        FileTaskJournal journal = open(properties);
+        journal.recover();
+        for (long id = 1; id <= 5; id++) {
+            journal.append(task(id, "Task " + id)).join();
+        }
+        journal.appendDelete(3L).join();
+        journal.compactIfNeeded();
+        journal.append(task(6, "After snapshot")).join();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!(Files.exists(directory.resolve("snapshot.dat")) && segments().size() == 1)
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(directory.resolve("snapshot.dat")).exists();
+        assertThat(segments()).hasSize(1);
+        journal.close();
+
+        assertThat(byId(open(properties).recover())).containsOnlyKeys(1L, 2L, 4L, 5L, 6L);
+    }
+
+    private JournalProperties properties() {
+        JournalProperties properties = new JournalProperties();
+        properties.setEnabled(true);
+        properties.setDirectory(directory.toString());
+        return properties;
+    }
+
+    private FileTaskJournal open(JournalProperties properties) {
+        FileTaskJournal journal = new FileTaskJournal(properties);
+        opened.add(journal);
+        return journal;
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(".log")).sorted().toList();
+        }
+    }
+
+    private Path onlySegment() throws IOException {
+        List<Path> segments = segments();
+        assertThat(segments).hasSize(1);
+        return segments.get(0);
+    }
+
+    private static Task task(long id, String title) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle(title);
+        return task;
+    }
+
+    private static Map<Long, Task> byId(Collection<Task> tasks) {
+        return tasks.stream().collect(Collectors.toMap(Task::getId, Function.identity()));
+    }
+
+    /**
+     * Journal whose segment writes can be made to fail after writing half of the buffer.
+     */
+    private static class FailingJournal extends FileTaskJournal {
+
+        volatile boolean failWrites;
+
+        FailingJournal(JournalProperties properties) {
+            super(properties);
+        }
+
+        @Override
+        FileChannel openSegment(Path path, OpenOption... options) throws IOException {
+            return new FailingChannel(FileChannel.open(path, options));
+        }
+
+        private class FailingChannel extends FileChannel {
+
+            private final FileChannel delegate;
+
+            FailingChannel(FileChannel delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public int write(ByteBuffer src) throws IOException {
+                if (!failWrites) {
+                    return delegate.write(src);
+                }
+                ByteBuffer half = src.duplicate();
+                half.limit(src.position() + src.remaining() / 2);
+                delegate.write(half);
+                throw new IOException("Simulated disk failure");
+            }
+
+            @Override
+            public int read(ByteBuffer dst) throws IOException {
+                return delegate.read(dst);
+            }
+
+            @Override
+            public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+                return delegate.read(dsts, offset, length);
+            }
+
+            @Override
+            public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+                return delegate.write(srcs, offset, length);
+            }
+
+            @Override
+            public long position() throws IOException {
+                return delegate.position();
+            }
+
+            @Override
+            public FileChannel position(long newPosition) throws IOException {
+                delegate.position(newPosition);
+                return this;
+            }
+
+            @Override
+            public long size() throws IOException {
+                return delegate.size();
+            }
+
+            @Override
+            public FileChannel truncate(long size) throws IOException {
+                delegate.truncate(size);
+                return this;
+            }
+
+            @Override
+            public void force(boolean metaData) throws IOException {
+                delegate.force(metaData);
+            }
+
+            @Override
+            public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+                return delegate.transferTo(position, count, target);
+            }
+
+            @Override
+            public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+                return delegate.transferFrom(src, position, count);
+            }
+
+            @Override
+            public int read(ByteBuffer dst, long position) throws IOException {
+                return delegate.read(dst, position);
+            }
+
+            @Override
+            public int write(ByteBuffer src, long position) throws IOException {
+                return delegate.write(src, position);
+            }
+
+            @Override
+            public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+                return delegate.map(mode, position, size);
+            }
+
+            @Override
+            public FileLock lock(long position, long size, boolean shared) throws IOException {
+                return delegate.lock(position, size, shared);
+            }
+
+            @Override
+            public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+                return delegate.tryLock(position, size, shared);
+            }
+
+            @Override
+            protected void implCloseChannel() throws IOException {
+                delegate.close();
+            }
+        }
+    }
+}
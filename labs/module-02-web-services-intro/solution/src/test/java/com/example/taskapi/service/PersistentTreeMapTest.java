@@ -0,0 +1,151 @@
+package com.example.taskapi.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PersistentTreeMapTest {
+
+    @Test
+    void rotatesOnSingleAndDoubleImbalance() {
+        // left-left, right-right, left-right and right-left cases on three keys
+        for (List<Integer> order : List.of(List.of(3, 2, 1), List.of(1, 2, 3), List.of(3, 1, 2), List.of(1, 3, 2))) {
+            PersistentTreeMap<Integer, String> map = PersistentTreeMap.empty();
+            for (Integer key : order) {
+                map = map.put(key, "v" + key);
+            }
+            assertThat(map.height()).as("insert order %s", order).isEqualTo(2);
+            assertThat(map.values()).containsExactly("v1", "v2", "v3");
+        }
+    }
+
+    @Test
+    void sequentialInsertsStayBalanced() {
+        PersistentTreeMap<Integer, Integer> ascending = PersistentTreeMap.empty();
+        PersistentTreeMap<Integer, Integer> descending = PersistentTreeMap.empty();
+        for (int i = 0; i < 1023; i++) {
+            ascending = ascending.put(i, i);
+            descending = descending.put(1022 - i, 1022 - i);
+        }
+
+        assertThat(ascending.size()).isEqualTo(1023);
+        assertThat(ascending.height()).isLessThanOrEqualTo(maxAvlHeight(1023));
+        assertThat(descending.height()).isLessThanOrEqualTo(maxAvlHeight(1023));
+        assertThat(ascending.values()).isEqualTo(IntStream.range(0, 1023).boxed().toList());
+        assertThat(descending.values()).isEqualTo(ascending.values());
+    }
+
+    @Test
+    void replaceKeepsSizeAndReusesUnchangedMap() {
+        String value = "first";
+        PersistentTreeMap<Integer, String> map = PersistentTreeMap.<Integer, String>empty().put(1, value).put(2, "second");
+
+        assertThat(map.put(1, value)).isSameAs(map);
+
+        PersistentTreeMap<Integer, String> replaced = map.put(1, "replaced");
+        assertThat(replaced.size()).isEqualTo(2);
+        assertThat(replaced.get(1)).isEqualTo("replaced");
+        assertThat(replaced.values()).containsExactly("replaced", "second");
+    }
+
+    @Test
+    void removalsRebalanceTheTree() {
+        PersistentTreeMap<Integer, Integer> map = PersistentTreeMap.empty();
+        for (int i = 0; i < 1000; i++) {
+            map = map.put(i, i);
+        }
+        assertThat(map.remove(5000)).isSameAs(map);
+
+        // Removing every key below 900 leaves the root's left side empty unless it rebalances
+        for (int i = 0; i < 900; i++) {
+            map = map.remove(i);
+        }
+        assertThat(map.size()).isEqualTo(100);
+        assertThat(map.height()).isLessThanOrEqualTo(maxAvlHeight(100));
+        assertThat(map.values()).isEqualTo(IntStream.range(900, 1000).boxed().toList());
+
+        // Keys with two children are replaced by their successor
+        Integer root = map.values().get(map.size() / 2);
+        map = map.remove(root);
+        assertThat(map.get(root)).isNull();
+        assertThat(map.values()).doesNotContain(root).isSorted();
+    }
+
+    @Test
+    void matchesTreeMapUnderRandomWrites() {
+        Random random = new Random(42);
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        PersistentTreeMap<Integer, Integer> map = PersistentTreeMap.empty();
+        for (int i = 0; i < 5000; i++) {
+            int key = random.nextInt(500);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.remove(key);
+            } else {
+                expected.put(key, i);
+                map = map.put(key, i);
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        assertThat(map.height()).isLessThanOrEqualTo(maxAvlHeight(expected.size()));
+        assertThat(map.values()).isEqualTo(new ArrayList<>(expected.values()));
+        for (var entry : expected.entrySet()) {
+            assertThat(map.get(entry.getKey())).isEqualTo(entry.getValue());
+        }
+    }
+
+    @Test
+    void iteratesValuesInKeyOrderAndByRange() {
+        PersistentTreeMap<Integer, String> map = PersistentTreeMap.empty();
+        for (int key : new int[] {50, 10, 40, 20, 30}) {
+            map = map.put(key, "v" + key);
+        }
+
+        List<String> values = map.values();
+        assertThat(values).containsExactly("v10", "v20", "v30", "v40", "v50");
+        assertThat(values.get(2)).isEqualTo("v30");
+        assertThatThrownBy(() -> values.get(5)).isInstanceOf(IndexOutOfBoundsException.class);
+
+        assertThat(map.values(20, 40)).containsExactly("v20", "v30", "v40");
+        assertThat(map.values(15, 35)).containsExactly("v20", "v30");
+        assertThat(map.values(60, 70)).isEmpty();
+        assertThat(map.values(40, 20)).isEmpty();
+    }
+
+    @Test
+    void olderVersionsAreUnaffectedByLaterWrites() {
+        PersistentTreeMap<Integer, String> v1 = PersistentTreeMap.empty();
+        for (int i = 1; i <= 100; i++) {
+            v1 = v1.put(i, "v1-" + i);
+        }
+        List<String> v1Values = List.copyOf(v1.values());
+
+        PersistentTreeMap<Integer, String> v2 = v1.put(50, "v2-50").remove(1).put(101, "v2-101");
+        PersistentTreeMap<Integer, String> v3 = v2.remove(50);
+
+        assertThat(v1.size()).isEqualTo(100);
+        assertThat(v1.get(50)).isEqualTo("v1-50");
+        assertThat(v1.get(101)).isNull();
+        assertThat(v1.values()).isEqualTo(v1Values);
+
+        assertThat(v2.get(1)).isNull();
+        assertThat(v2.get(50)).isEqualTo("v2-50");
+        assertThat(v3.get(50)).isNull();
+        assertThat(v2.size()).isEqualTo(100);
+        assertThat(v3.size()).isEqualTo(99);
+        assertThat(PersistentTreeMap.<Integer, String>empty().size()).isZero();
+    }
+
+    // Upper bound on the height of an AVL tree with n nodes
+    private static int maxAvlHeight(int n) {
+        return (int) Math.floor(1.4405 * (Math.log(n + 2) / Math.log(2)) - 0.3277);
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.taskapi.service;
+
+import com.example.taskapi.config.JournalProperties;
+import com.example.taskapi.journal.FileTaskJournal;
+import com.example.taskapi.journal.NoOpTaskJournal;
+import com.example.taskapi.model.Task;
+import com.example.taskapi.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskStoreTest {
+
+    private static final int THREADS = 8;
+    private static final int TASKS_PER_THREAD = 250;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void concurrentInsertsAreAllPublished() throws Exception {
+        TaskStore store = new TaskStore(new NoOpTaskJournal());
+        IdAllocator ids = new IdAllocator(1, 16);
+
+        insertConcurrently(store, ids);
+
+        List<Long> stored = store.findAll().stream().map(Task::getId).toList();
+        assertThat(stored).hasSize(THREADS * TASKS_PER_THREAD).doesNotHaveDuplicates().isSorted();
+        assertThat(store.countByStatus(TaskStatus.TODO)).isEqualTo(THREADS * TASKS_PER_THREAD);
+        assertThat(store.snapshot().version()).isEqualTo(THREADS * TASKS_PER_THREAD);
+    }
+
+    @Test
+    void insertsInterleavedWithUpdatesAndCompactionAreRecovered() throws Exception {
+        JournalProperties properties = new JournalProperties();
+        properties.setEnabled(true);
+        properties.setDirectory(directory.toString());
+        properties.setCompactionThreshold(DataSize.ofKilobytes(4));
+
+        FileTaskJournal journal = new FileTaskJournal(properties);
+        TaskStore store = new TaskStore(journal);
+        Task first = task(1);
+        store.insert(first);
+        IdAllocator ids = new IdAllocator(2, 16);
+
+        ExecutorService updater = Executors.newSingleThreadExecutor();
+        Future<?> updates = updater.submit(() -> {
+            for (int i = 0; i < 200; i++) {
+                int round = i;
+                store.update(1L, task -> task.setTitle("Update " + round));
+            }
+        });
+        insertConcurrently(store, ids);
+        updates.get();
+        updater.shutdown();
+        journal.close();
+
+        FileTaskJournal reopened = new FileTaskJournal(properties);
+        TaskStore recovered = new TaskStore(reopened);
+        reopened.close();
+        assertThat(recovered.size()).isEqualTo(THREADS * TASKS_PER_THREAD + 1);
+        assertThat(recovered.get(1L)).get().extracting(Task::getTitle).isEqualTo("Update 199");
+        assertThat(recovered.findAll()).extracting(Task::getId)
+            .containsExactlyInAnyOrderElementsOf(store.findAll().stream().map(Task::getId).toList());
+    }
+
+    @Test
+    void updatesNeverModifyPublishedTasks() {
+        TaskStore store = new TaskStore(new NoOpTaskJournal());
+        store.insert(task(1));
+        TaskStore.Snapshot before = store.snapshot();
+
+        store.update(1L, task -> task.setStatus(TaskStatus.COMPLETED));
+
+        assertThat(before.get(1L)).get().extracting(Task::getStatus).isEqualTo(TaskStatus.TODO);
+        assertThat(store.get(1L)).get().extracting(Task::getStatus).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(store.findByStatus(TaskStatus.TODO)).isEmpty();
+        assertThat(store.remove(2L)).isEmpty();
+    }
+
+    private static void insertConcurrently(TaskStore store, IdAllocator ids) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() ->
+                    LongStream.range(0, TASKS_PER_THREAD).forEach(i -> store.insert(task(ids.next())))));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static Task task(long id) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        return task;
+    }
+}
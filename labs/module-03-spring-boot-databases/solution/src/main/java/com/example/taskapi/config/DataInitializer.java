@@ -9,6 +9,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Configuration
 public class DataInitializer {
@@ -41,12 +42,7 @@ public class DataInitializer {
                 task6.setDueDate(LocalDateTime.now().minusDays(1));
                 task6.setPriority(TaskPriority.URGENT);
 
-                repository.save(task1);
-                repository.save(task2);
-                repository.save(task3);
-                repository.save(task4);
-                repository.save(task5);
-                repository.save(task6);
+                repository.saveAll(List.of(task1, task2, task3, task4, task5, task6));
 
                 System.out.println("Sample data initialized!");
             }
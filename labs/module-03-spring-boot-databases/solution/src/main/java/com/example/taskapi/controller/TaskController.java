@@ -1,5 +1,6 @@
 package com.example.taskapi.controller;
 
+import com.example.taskapi.dto.BatchGetResponse;
 import com.example.taskapi.dto.CreateTaskRequest;
 import com.example.taskapi.dto.PageResponse;
 import com.example.taskapi.dto.UpdateTaskRequest;
@@ -75,6 +76,11 @@ public class TaskController {
         return taskService.findOverdueTasks();
     }
 
+    @PostMapping("/batch-get")
+    public BatchGetResponse batchGet(@RequestBody List<Long> ids) {
+        return taskService.findByIds(ids);
+    }
+
     @PostMapping
     public ResponseEntity<Task> createTask(@Valid @RequestBody CreateTaskRequest request) {
         Task task = taskService.create(request);
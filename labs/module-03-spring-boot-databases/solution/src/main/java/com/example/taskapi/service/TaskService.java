@@ -1,5 +1,6 @@
 package com.example.taskapi.service;
 
+import com.example.taskapi.dto.BatchGetResponse;
 import com.example.taskapi.dto.CreateTaskRequest;
 import com.example.taskapi.dto.UpdateTaskRequest;
 import com.example.taskapi.entity.Task;
@@ -7,22 +8,31 @@ import com.example.taskapi.entity.TaskPriority;
 import com.example.taskapi.entity.TaskStatus;
 import com.example.taskapi.exception.TaskNotFoundException;
 import com.example.taskapi.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 @Service
 @Transactional
 public class TaskService {
 
+    private static final int MAX_BATCH_GET_SIZE = 1000;
+    private static final int BATCH_GET_CHUNK_SIZE = 100;
+
     private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
 
-    public TaskService(TaskRepository taskRepository) {
+    public TaskService(TaskRepository taskRepository, EntityManager entityManager) {
         this.taskRepository = taskRepository;
+        this.entityManager = entityManager;
     }
 
     @Transactional(readOnly = true)
@@ -41,6 +51,35 @@ public class TaskService {
             .orElseThrow(() -> new TaskNotFoundException(id));
     }
 
+    // Tasks already in the persistence context are reused; the rest are loaded with one
+    // IN query per chunk. Unknown ids are reported instead of failing the whole batch.
+    @Transactional(readOnly = true)
+    public BatchGetResponse findByIds(List<Long> ids) {
+        if (ids.size() > MAX_BATCH_GET_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_GET_SIZE + " tasks can be fetched at once");
+        }
+        List<Long> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        Session session = entityManager.unwrap(Session.class);
+
+        List<Task> tasks = new ArrayList<>(distinctIds.size());
+        List<Long> missing = new ArrayList<>();
+        for (int from = 0; from < distinctIds.size(); from += BATCH_GET_CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + BATCH_GET_CHUNK_SIZE, distinctIds.size()));
+            List<Task> loaded = session.byMultipleIds(Task.class)
+                    .enableSessionCheck(true)
+                    .enableOrderedReturn(true)
+                    .multiLoad(chunk);
+            for (int i = 0; i < chunk.size(); i++) {
+                if (loaded.get(i) != null) {
+                    tasks.add(loaded.get(i));
+                } else {
+                    missing.add(chunk.get(i));
+                }
+            }
+        }
+        return new BatchGetResponse(tasks, missing);
+    }
+
     @Transactional(readOnly = true)
     public List<Task> findByStatus(TaskStatus status) {
         return taskRepository.findByStatus(status);
@@ -0,0 +1,119 @@
+package com.example.taskapi;
+
+import com.example.taskapi.dto.CreateTaskRequest;
+import com.example.taskapi.exception.TaskNotFoundException;
+import com.example.taskapi.routing.ReadYourWrites;
+import com.example.taskapi.routing.ReplicaLagMonitor;
+import com.example.taskapi.service.TaskService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:hsqldb:mem:taskdb-routing",
+        "app.datasource.replica.url=" + ReadReplicaRoutingTests.REPLICA_URL,
+        "app.datasource.replica.heartbeat-interval=1h",
+        "spring.datasource.hikari.maximum-pool-size=7",
+        "app.datasource.replica.hikari.maximum-pool-size=3"
+})
+class ReadReplicaRoutingTests {
+
+    static final String REPLICA_URL = "jdbc:hsqldb:mem:taskdb-replica";
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replicaDataSource;
+
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    private Long lateId;
+
+    @BeforeEach
+    void replicateWithoutLaterWrites() {
+        // No replica schema yet: everything runs on the primary
+        replicaLagMonitor.refresh();
+        assertFalse(replicaLagMonitor.isReplicaUsable());
+
+        replicateSnapshot();
+        replicaLagMonitor.refresh();
+        assertTrue(replicaLagMonitor.isReplicaUsable());
+
+        CreateTaskRequest create = new CreateTaskRequest();
+        create.setTitle("Written after the snapshot");
+        lateId = taskService.create(create).getId();
+    }
+
+    @AfterEach
+    void dropReplica() {
+        replica.execute("DROP SCHEMA PUBLIC CASCADE");
+        replicaLagMonitor.refresh();
+        taskService.delete(lateId);
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplicaOnlyWhileItIsFresh() {
+        // The replica has not seen the insert yet
+        assertThrows(TaskNotFoundException.class, () -> taskService.findById(lateId));
+
+        ReadYourWrites.pin();
+        try {
+            assertEquals("Written after the snapshot", taskService.findById(lateId).getTitle());
+        } finally {
+            ReadYourWrites.clear();
+        }
+
+        replica.update("UPDATE replication_heartbeat SET beat_millis = beat_millis - 60000");
+        replicaLagMonitor.refresh();
+        assertFalse(replicaLagMonitor.isReplicaUsable());
+        assertEquals("Written after the snapshot", taskService.findById(lateId).getTitle());
+    }
+
+    @Test
+    void poolsBindTheirOwnHikariSettings() {
+        assertEquals(7, primaryDataSource.getMaximumPoolSize());
+        assertEquals(3, replicaDataSource.getMaximumPoolSize());
+        assertEquals("replica", replicaDataSource.getPoolName());
+        assertTrue(replicaDataSource.isReadOnly());
+    }
+
+    // Stands in for replication by copying the primary's schema and rows
+    private void replicateSnapshot() {
+        for (String statement : jdbcTemplate.queryForList("SCRIPT", String.class)) {
+            if (statement.startsWith("CREATE MEMORY TABLE") || statement.startsWith("CREATE SEQUENCE")
+                    || statement.startsWith("CREATE INDEX")) {
+                replica.execute(statement);
+            }
+        }
+        for (String table : List.of("tasks", "replication_heartbeat")) {
+            for (Map<String, Object> row : jdbcTemplate.queryForList("SELECT * FROM " + table)) {
+                replica.update("INSERT INTO " + table + " (" + String.join(", ", row.keySet()) + ") VALUES ("
+                        + String.join(", ", Collections.nCopies(row.size(), "?")) + ")", row.values().toArray());
+            }
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package com.example.taskapi.advisor;
+
+import com.example.taskapi.dto.IndexRecommendation;
+import com.example.taskapi.entity.Task;
+import jakarta.persistence.Column;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Records which columns the statements against the tasks table filter, sort and
+ * group on, and recommends composite indexes for the shapes that no existing index
+ * serves. It sees the final SQL of every query, whether it came from a derived query,
+ * JPQL, native SQL, a Specification or the search shape cache.
+ * <p>
+ * For each statement shape the candidate index is its equality columns, followed by
+ * its first range column or, without one, its ORDER BY / GROUP BY columns. Equality
+ * columns are ordered by how often they are used across all shapes, so related shapes
+ * share a prefix and can be served by one index.
+ */
+@Component
+public class IndexAdvisor implements StatementInspector {
+
+    private static final String TABLE = "tasks";
+    private static final int MAX_TRACKED_STATEMENTS = 2000;
+
+    private static final Pattern FROM_TABLE = Pattern.compile(
+            "\\b(?:from|update)\\s+" + TABLE + "\\b(?:\\s+(?!where\\b|set\\b|order\\b|group\\b)(\\w+))?",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern CLAUSE_END = Pattern.compile(
+            "\\s(?:group\\s+by|order\\s+by|fetch|limit|offset)\\s", Pattern.CASE_INSENSITIVE);
+    private static final Pattern LIST_END = Pattern.compile(
+            "\\s(?:order\\s+by|fetch|limit|offset)\\s", Pattern.CASE_INSENSITIVE);
+    private static final Pattern PREDICATE = Pattern.compile(
+            "(?<![\\w.(])(?:(\\w+)\\.)?(\\w+)\\s*(=|<>|!=|<=|>=|<|>|not\\s+in\\b|in\\b|not\\s+like\\b|like\\b|between\\b)",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern WHERE = keyword("where");
+    private static final Pattern GROUP_BY = keyword("group by");
+    private static final Pattern ORDER_BY = keyword("order by");
+    private static final Pattern LIST_ITEM = Pattern.compile(
+            "^(?:(\\w+)\\.)?(\\w+)(?:\\s+(?:asc|desc))?$", Pattern.CASE_INSENSITIVE);
+
+    private final Set<String> columns = tableColumns();
+    private final List<List<String>> existingIndexes = declaredIndexes();
+    private final Map<String, Optional<Shape>> shapesBySql = new ConcurrentHashMap<>();
+    private final Map<Shape, LongAdder> executions = new ConcurrentHashMap<>();
+    private final Map<Shape, String> samples = new ConcurrentHashMap<>();
+
+    @Override
+    public String inspect(String sql) {
+        Optional<Shape> shape;
+        if (shapesBySql.size() < MAX_TRACKED_STATEMENTS) {
+            shape = shapesBySql.computeIfAbsent(sql, this::parse);
+        } else {
+            shape = shapesBySql.get(sql);
+            if (shape == null) {
+                shape = parse(sql);
+            }
+        }
+        shape.ifPresent(s -> {
+            executions.computeIfAbsent(s, key -> new LongAdder()).increment();
+            samples.putIfAbsent(s, sql);
+        });
+        return sql;
+    }
+
+    public void reset() {
+        executions.clear();
+        samples.clear();
+    }
+
+    /**
+     * Indexes that would serve recorded statements no existing index serves,
+     * most frequently needed first.
+     */
+    public List<IndexRecommendation> recommend() {
+        Map<Shape, Long> counts = new HashMap<>();
+        executions.forEach((shape, count) -> counts.put(shape, count.sum()));
+
+        Map<String, Long> equalityUse = new HashMap<>();
+        counts.forEach((shape, count) ->
+                shape.equality().forEach(column -> equalityUse.merge(column, count, Long::sum)));
+        Comparator<String> byUse = Comparator.<String, Long>comparing(column -> equalityUse.get(column))
+                .reversed()
+                .thenComparing(Comparator.naturalOrder());
+
+        List<Candidate> candidates = new ArrayList<>();
+        counts.forEach((shape, count) -> {
+            Candidate candidate = Candidate.of(shape, byUse);
+            if (candidate != null && existingIndexes.stream().noneMatch(candidate::servedBy)) {
+                candidates.add(candidate.withExecutions(count, samples.get(shape)));
+            }
+        });
+
+        // Longest first, so shorter candidates fold into an index that also serves them
+        candidates.sort(Comparator.comparingInt((Candidate c) -> c.columns.size()).reversed()
+                .thenComparing(c -> String.join(",", c.columns)));
+        Map<List<String>, Candidate> merged = new LinkedHashMap<>();
+        for (Candidate candidate : candidates) {
+            Candidate target = merged.values().stream()
+                    .filter(existing -> candidate.servedBy(existing.columns))
+                    .findFirst()
+                    .orElse(null);
+            if (target == null) {
+                merged.put(candidate.columns, candidate);
+            } else {
+                merged.put(target.columns, target.withExecutions(candidate.executions, null));
+            }
+        }
+
+        return merged.values().stream()
+                .sorted(Comparator.comparingLong((Candidate c) -> c.executions).reversed())
+                .map(Candidate::toRecommendation)
+                .toList();
+    }
+
+    private Optional<Shape> parse(String sql) {
+        Matcher table = FROM_TABLE.matcher(sql);
+        if (!table.find()) {
+            return Optional.empty();
+        }
+        String alias = table.group(1);
+        String afterTable = sql.substring(table.end());
+
+        Set<String> equality = new TreeSet<>();
+        List<String> range = new ArrayList<>();
+        int where = endOfKeyword(afterTable, WHERE);
+        if (where >= 0) {
+            String clause = afterTable.substring(where);
+            Matcher end = CLAUSE_END.matcher(clause);
+            if (end.find()) {
+                clause = clause.substring(0, end.start());
+            }
+            Matcher predicate = PREDICATE.matcher(clause);
+            while (predicate.find()) {
+                String column = column(alias, predicate.group(1), predicate.group(2));
+                if (column == null) {
+                    continue;
+                }
+                String operator = predicate.group(3).toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+                switch (operator) {
+                    case "=", "in" -> equality.add(column);
+                    case "<", ">", "<=", ">=", "between" -> {
+                        if (!range.contains(column)) {
+                            range.add(column);
+                        }
+                    }
+                    default -> { }
+                }
+            }
+        }
+
+        List<String> ordering = new ArrayList<>();
+        ordering.addAll(listColumns(afterTable, GROUP_BY, LIST_END, alias));
+        ordering.addAll(listColumns(afterTable, ORDER_BY, CLAUSE_END, alias));
+
+        if (equality.isEmpty() && range.isEmpty() && ordering.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new Shape(List.copyOf(equality), List.copyOf(range), List.copyOf(ordering)));
+    }
+
+    private List<String> listColumns(String sql, Pattern keyword, Pattern listEnd, String alias) {
+        int start = endOfKeyword(sql, keyword);
+        if (start < 0) {
+            return List.of();
+        }
+        String list = sql.substring(start);
+        Matcher end = listEnd.matcher(" " + list + " ");
+        if (end.find()) {
+            list = list.substring(0, Math.max(0, end.start() - 1));
+        }
+        List<String> result = new ArrayList<>();
+        for (String item : list.split(",")) {
+            Matcher matcher = LIST_ITEM.matcher(item.trim());
+            String column = matcher.matches() ? column(alias, matcher.group(1), matcher.group(2)) : null;
+            if (column == null) {
+                break;
+            }
+            if (!result.contains(column)) {
+                result.add(column);
+            }
+        }
+        return result;
+    }
+
+    private String column(String alias, String qualifier, String name) {
+        if (qualifier != null && !qualifier.equalsIgnoreCase(alias) && !qualifier.equalsIgnoreCase(TABLE)) {
+            return null;
+        }
+        String column = name.toLowerCase(Locale.ROOT);
+        return columns.contains(column) ? column : null;
+    }
+
+    private static Pattern keyword(String keyword) {
+        return Pattern.compile("\\s" + keyword.replace(" ", "\\s+") + "(?=\\s)", Pattern.CASE_INSENSITIVE);
+    }
+
+    // Offset in sql just past the first whole-word occurrence of the keyword, or -1
+    private static int endOfKeyword(String sql, Pattern keyword) {
+        Matcher matcher = keyword.matcher(" " + sql);
+        return matcher.find() ? matcher.end() - 1 : -1;
+    }
+
+    private static Set<String> tableColumns() {
+        Set<String> names = new HashSet<>();
+        for (Field field : Task.class.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || field.isAnnotationPresent(Transient.class)) {
+                continue;
+            }
+            Column column = field.getAnnotation(Column.class);
+            names.add(column != null && !column.name().isEmpty() ? column.name() : snakeCase(field.getName()));
+        }
+        return names;
+    }
+
+    private static List<List<String>> declaredIndexes() {
+        List<List<String>> indexes = new ArrayList<>();
+        indexes.add(List.of("id"));
+        Table table = Task.class.getAnnotation(Table.class);
+        if (table != null) {
+            for (Index index : table.indexes()) {
+                indexes.add(Arrays.stream(index.columnList().split(","))
+                        .map(column -> column.trim().split("\\s+")[0].toLowerCase(Locale.ROOT))
+                        .toList());
+            }
+        }
+        return indexes;
+    }
+
+    private static String snakeCase(String name) {
+        return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase(Locale.ROOT);
+    }
+
+    private record Shape(List<String> equality, List<String> range, List<String> ordering) {
+    }
+
+    private record Candidate(Set<String> leading, List<String> columns, long executions, String sampleSql) {
+
+        // Null when the primary key already serves the shape
+        static Candidate of(Shape shape, Comparator<String> byUse) {
+            if (shape.equality().contains("id")) {
+                return null;
+            }
+            List<String> columns = new ArrayList<>(shape.equality());
+            columns.sort(byUse);
+            List<String> tail = shape.range().isEmpty() ? shape.ordering() : shape.range().subList(0, 1);
+            tail.stream().filter(column -> !columns.contains(column)).forEach(columns::add);
+            if (columns.isEmpty() || columns.get(0).equals("id")) {
+                return null;
+            }
+            return new Candidate(Set.copyOf(shape.equality()), List.copyOf(columns), 0, null);
+        }
+
+        // The index must start with this candidate's equality columns in any order,
+        // followed by the rest of its columns in order
+        boolean servedBy(List<String> index) {
+            if (index.size() < columns.size() || !Set.copyOf(index.subList(0, leading.size())).equals(leading)) {
+                return false;
+            }
+            return index.subList(leading.size(), columns.size()).equals(columns.subList(leading.size(), columns.size()));
+        }
+
+        Candidate withExecutions(long more, String sample) {
+            return new Candidate(leading, columns, executions + more, sampleSql != null ? sampleSql : sample);
+        }
+
+        IndexRecommendation toRecommendation() {
+            String name = "idx_" + TABLE + "_" + String.join("_", columns);
+            String columnList = String.join(", ", columns);
+            return new IndexRecommendation(name, columns, executions, sampleSql,
+                    "CREATE INDEX " + name + " ON " + TABLE + " (" + columnList + ");",
+                    "@Index(name = \"" + name + "\", columnList = \"" + columnList + "\")");
+        }
+    }
+}
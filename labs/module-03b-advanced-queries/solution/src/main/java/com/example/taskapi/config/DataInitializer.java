@@ -8,6 +8,8 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 @Component
 public class DataInitializer implements CommandLineRunner {
@@ -20,22 +22,24 @@ public class DataInitializer implements CommandLineRunner {
 
     @Override
     public void run(String... args) {
-        // Create sample tasks
-        createTask("Complete project documentation", "Write comprehensive docs", TaskPriority.HIGH, TaskStatus.TODO, "alice", 7);
-        createTask("Review pull requests", "Review team PRs", TaskPriority.MEDIUM, TaskStatus.IN_PROGRESS, "bob", 2);
-        createTask("Fix login bug", "Users can't login with SSO", TaskPriority.URGENT, TaskStatus.TODO, "alice", 1);
-        createTask("Update dependencies", "Upgrade Spring Boot", TaskPriority.LOW, TaskStatus.TODO, "charlie", 14);
-        createTask("Write unit tests", "Increase code coverage", TaskPriority.MEDIUM, TaskStatus.IN_PROGRESS, "bob", 5);
-        createTask("Deploy to staging", "Deploy new features", TaskPriority.HIGH, TaskStatus.COMPLETED, "alice", -2);
-        createTask("Performance optimization", "Optimize database queries", TaskPriority.MEDIUM, TaskStatus.TODO, "charlie", 10);
-        createTask("Security audit", "Review security vulnerabilities", TaskPriority.URGENT, TaskStatus.TODO, "alice", -1);
-        createTask("Team meeting prep", "Prepare slides for meeting", TaskPriority.LOW, TaskStatus.COMPLETED, "bob", -3);
-        createTask("API documentation", "Document REST endpoints", TaskPriority.MEDIUM, TaskStatus.IN_PROGRESS, "charlie", 3);
+        // Create sample tasks; saved together so the inserts go out as one JDBC batch
+        List<Task> tasks = new ArrayList<>();
+        tasks.add(createTask("Complete project documentation", "Write comprehensive docs", TaskPriority.HIGH, TaskStatus.TODO, "alice", 7));
+        tasks.add(createTask("Review pull requests", "Review team PRs", TaskPriority.MEDIUM, TaskStatus.IN_PROGRESS, "bob", 2));
+        tasks.add(createTask("Fix login bug", "Users can't login with SSO", TaskPriority.URGENT, TaskStatus.TODO, "alice", 1));
+        tasks.add(createTask("Update dependencies", "Upgrade Spring Boot", TaskPriority.LOW, TaskStatus.TODO, "charlie", 14));
+        tasks.add(createTask("Write unit tests", "Increase code coverage", TaskPriority.MEDIUM, TaskStatus.IN_PROGRESS, "bob", 5));
+        tasks.add(createTask("Deploy to staging", "Deploy new features", TaskPriority.HIGH, TaskStatus.COMPLETED, "alice", -2));
+        tasks.add(createTask("Performance optimization", "Optimize database queries", TaskPriority.MEDIUM, TaskStatus.TODO, "charlie", 10));
+        tasks.add(createTask("Security audit", "Review security vulnerabilities", TaskPriority.URGENT, TaskStatus.TODO, "alice", -1));
+        tasks.add(createTask("Team meeting prep", "Prepare slides for meeting", TaskPriority.LOW, TaskStatus.COMPLETED, "bob", -3));
+        tasks.add(createTask("API documentation", "Document REST endpoints", TaskPriority.MEDIUM, TaskStatus.IN_PROGRESS, "charlie", 3));
+        taskRepository.saveAll(tasks);
 
         System.out.println("Sample data initialized: " + taskRepository.count() + " tasks created");
     }
 
-    private void createTask(String title, String description, TaskPriority priority, TaskStatus status, String assignee, int dueDaysFromNow) {
+    private Task createTask(String title, String description, TaskPriority priority, TaskStatus status, String assignee, int dueDaysFromNow) {
         Task task = new Task();
         task.setTitle(title);
         task.setDescription(description);
@@ -43,6 +47,6 @@ public class DataInitializer implements CommandLineRunner {
         task.setStatus(status);
         task.setAssignee(assignee);
         task.setDueDate(LocalDate.now().plusDays(dueDaysFromNow));
-        taskRepository.save(task);
+        return task;
     }
 }
@@ -0,0 +1,17 @@
+package com.example.taskapi.config;
+
+import com.example.taskapi.advisor.IndexAdvisor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PersistenceConfig {
+
+    // Lets the index advisor observe every SQL statement Hibernate prepares
+    @Bean
+    public HibernatePropertiesCustomizer indexAdvisorStatementInspector(IndexAdvisor indexAdvisor) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, indexAdvisor);
+    }
+}
@@ -1,19 +1,37 @@
 package com.example.taskapi.controller;
 
+import com.example.taskapi.dto.BatchGetResponse;
+import com.example.taskapi.dto.BulkCreateResponse;
+import com.example.taskapi.dto.BulkJobStatus;
 import com.example.taskapi.dto.CreateTaskRequest;
+import com.example.taskapi.dto.CursorPage;
+import com.example.taskapi.dto.IndexRecommendation;
+import com.example.taskapi.dto.SearchResults;
+import com.example.taskapi.dto.TaskCursor;
+import com.example.taskapi.dto.TaskListVersion;
 import com.example.taskapi.dto.TaskSearchCriteria;
+import com.example.taskapi.dto.TaskSummary;
+import com.example.taskapi.dto.TaskVersion;
 import com.example.taskapi.dto.UpdateTaskRequest;
 import com.example.taskapi.entity.Task;
 import com.example.taskapi.entity.TaskPriority;
 import com.example.taskapi.entity.TaskStatus;
+import com.example.taskapi.exception.JobNotFoundException;
+import com.example.taskapi.exception.PreconditionFailedException;
+import com.example.taskapi.service.BulkStatusUpdateService;
+import com.example.taskapi.service.TaskExportService;
 import com.example.taskapi.service.TaskService;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
 import java.util.List;
@@ -24,19 +42,66 @@ import java.util.Map;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskExportService taskExportService;
+    private final BulkStatusUpdateService bulkStatusUpdateService;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService,
+                          TaskExportService taskExportService,
+                          BulkStatusUpdateService bulkStatusUpdateService) {
         this.taskService = taskService;
+        this.taskExportService = taskExportService;
+        this.bulkStatusUpdateService = bulkStatusUpdateService;
     }
 
+    // Lists carry a weak ETag from one table aggregate; an unchanged table answers 304
+    // without running the page query. The validator is read first, so a write racing the
+    // page can only make the ETag older than the body, never newer.
     @GetMapping
-    public Page<Task> getAllTasks(@PageableDefault(size = 20) Pageable pageable) {
-        return taskService.findAll(pageable);
+    public Page<TaskSummary> getAllTasks(@PageableDefault(size = 20) Pageable pageable, WebRequest webRequest) {
+        if (isNotModified(webRequest)) {
+            return null;
+        }
+        return taskService.findSummaries(pageable);
     }
 
+    // Keyset pagination: pass back nextCursor to fetch the following page
+    @GetMapping("/cursor")
+    public CursorPage<Task> getTasksByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "CREATED") TaskCursor.Order order,
+            WebRequest webRequest) {
+        if (isNotModified(webRequest)) {
+            return null;
+        }
+        return taskService.findPage(order, cursor, size);
+    }
+
+    // Streams every task as NDJSON or CSV without loading the full list into memory
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestParam(defaultValue = "NDJSON") TaskExportService.Format format) {
+        StreamingResponseBody body = out -> taskExportService.export(format, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks." + format.getExtension() + "\"")
+                .body(body);
+    }
+
+    // Strong ETag from id and version; a matching If-None-Match answers 304 without a body
     @GetMapping("/{id}")
-    public Task getTask(@PathVariable Long id) {
-        return taskService.findById(id);
+    public Task getTask(@PathVariable Long id, WebRequest webRequest) {
+        Task task = taskService.findById(id);
+        TaskVersion version = TaskVersion.of(task);
+        if (webRequest.checkNotModified(version.eTag(), version.lastModified())) {
+            return null;
+        }
+        return task;
+    }
+
+    @PostMapping("/batch-get")
+    public BatchGetResponse batchGet(@RequestBody List<Long> ids) {
+        return taskService.findByIds(ids);
     }
 
     @PostMapping
@@ -44,12 +109,25 @@ public class TaskController {
         Task task = taskService.create(request);
         return ResponseEntity
                 .created(URI.create("/api/tasks/" + task.getId()))
+                .eTag(TaskVersion.of(task).eTag())
                 .body(task);
     }
 
+    // If-Match, when sent, must carry the task's current ETag; "*" only requires it to exist
     @PutMapping("/{id}")
-    public Task updateTask(@PathVariable Long id, @Valid @RequestBody UpdateTaskRequest request) {
-        return taskService.update(id, request);
+    public ResponseEntity<Task> updateTask(
+            @PathVariable Long id,
+            @Valid @RequestBody UpdateTaskRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long expectedVersion = null;
+        if (ifMatch != null && !ifMatch.isBlank() && !ifMatch.trim().equals("*")) {
+            expectedVersion = TaskVersion.versionOf(id, ifMatch.trim())
+                    .orElseThrow(() -> new PreconditionFailedException("If-Match does not match task " + id));
+        }
+        Task task = taskService.update(id, request, expectedVersion);
+        return ResponseEntity.ok()
+                .eTag(TaskVersion.of(task).eTag())
+                .body(task);
     }
 
     @DeleteMapping("/{id}")
@@ -60,7 +138,7 @@ public class TaskController {
 
     // Search endpoint using Specifications
     @GetMapping("/search")
-    public List<Task> searchTasks(
+    public SearchResults<TaskSummary> searchTasks(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) TaskStatus status,
             @RequestParam(required = false) TaskPriority priority,
@@ -79,6 +157,11 @@ public class TaskController {
         return taskService.search(criteria);
     }
 
+    @PostMapping("/search-index/rebuild")
+    public Map<String, Object> rebuildSearchIndex() {
+        return Map.of("indexed", taskService.rebuildSearchIndex());
+    }
+
     // JPQL query endpoints
     @GetMapping("/by-status/{status}")
     public List<Task> getByStatus(@PathVariable TaskStatus status) {
@@ -86,7 +169,7 @@ public class TaskController {
     }
 
     @GetMapping("/keyword/{keyword}")
-    public List<Task> searchByKeyword(@PathVariable String keyword) {
+    public SearchResults<Task> searchByKeyword(@PathVariable String keyword) {
         return taskService.searchByKeyword(keyword);
     }
 
@@ -100,16 +183,44 @@ public class TaskController {
         return taskService.getTaskCountByStatus();
     }
 
+    // Composite indexes that would serve the queries observed so far
+    @GetMapping("/stats/index-advice")
+    public List<IndexRecommendation> getIndexAdvice() {
+        return taskService.getIndexRecommendations();
+    }
+
+    @GetMapping("/stats/by-priority")
+    public Map<TaskPriority, Long> getTaskStatsByPriority() {
+        return taskService.getTaskCountByPriority();
+    }
+
     // Bulk operations
+    @PostMapping("/bulk")
+    public BulkCreateResponse bulkCreate(@RequestBody List<CreateTaskRequest> requests) {
+        return taskService.createAll(requests);
+    }
+
+    // Runs in the background; poll the returned job for progress
     @PostMapping("/bulk/update-status")
-    public Map<String, Object> bulkUpdateStatus(
+    public ResponseEntity<BulkJobStatus> bulkUpdateStatus(
             @RequestParam TaskStatus fromStatus,
             @RequestParam TaskStatus toStatus) {
-        int count = taskService.bulkUpdateStatus(fromStatus, toStatus);
-        return Map.of(
-                "updated", count,
-                "fromStatus", fromStatus,
-                "toStatus", toStatus
-        );
+        BulkJobStatus job = bulkStatusUpdateService.start(fromStatus, toStatus);
+        return ResponseEntity
+                .accepted()
+                .location(URI.create("/api/tasks/bulk/jobs/" + job.id()))
+                .body(job);
+    }
+
+    @GetMapping("/bulk/jobs/{jobId}")
+    public BulkJobStatus getBulkJob(@PathVariable String jobId) {
+        return bulkStatusUpdateService.getJob(jobId)
+                .orElseThrow(() -> new JobNotFoundException(jobId));
+    }
+
+    // ETag only: a delete leaves the latest updatedAt alone, so Last-Modified can't validate a list
+    private boolean isNotModified(WebRequest webRequest) {
+        TaskListVersion version = taskService.findListVersion();
+        return webRequest.checkNotModified(version.eTag());
     }
 }
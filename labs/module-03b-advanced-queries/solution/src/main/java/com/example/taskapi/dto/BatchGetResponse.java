@@ -0,0 +1,12 @@
+package com.example.taskapi.dto;
+
+import com.example.taskapi.entity.Task;
+
+import java.util.List;
+
+/**
+ * Outcome of a batch get. {@code tasks} follows the order the ids were requested in;
+ * ids that matched no task are listed in {@code missing}.
+ */
+public record BatchGetResponse(List<Task> tasks, List<Long> missing) {
+}
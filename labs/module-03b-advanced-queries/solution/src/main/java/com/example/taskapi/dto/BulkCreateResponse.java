@@ -0,0 +1,21 @@
+package com.example.taskapi.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of a bulk create. {@code results} has one entry per submitted item, in request order.
+ */
+public record BulkCreateResponse(int created, int failed, List<Item> results) {
+
+    public record Item(int index, Long id, Map<String, String> errors) {
+
+        public static Item created(int index, Long id) {
+            return new Item(index, id, null);
+        }
+
+        public static Item rejected(int index, Map<String, String> errors) {
+            return new Item(index, null, errors);
+        }
+    }
+}
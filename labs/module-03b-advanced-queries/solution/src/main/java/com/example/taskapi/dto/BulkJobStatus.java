@@ -0,0 +1,26 @@
+package com.example.taskapi.dto;
+
+import com.example.taskapi.entity.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of an asynchronous bulk status update. {@code total} is the number of
+ * matching tasks when the job started; tasks that stopped matching before their
+ * chunk ran are counted as processed but not updated.
+ */
+public record BulkJobStatus(
+        String id,
+        TaskStatus fromStatus,
+        TaskStatus toStatus,
+        State state,
+        long total,
+        long processed,
+        long updated,
+        long failed,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String error) {
+
+    public enum State { QUEUED, RUNNING, COMPLETED, FAILED }
+}
@@ -0,0 +1,9 @@
+package com.example.taskapi.dto;
+
+import java.util.List;
+
+/**
+ * One keyset page. {@code nextCursor} is null on the last page; no total count is computed.
+ */
+public record CursorPage<T>(List<T> content, int size, boolean hasNext, String nextCursor) {
+}
@@ -0,0 +1,17 @@
+package com.example.taskapi.dto;
+
+import java.util.List;
+
+/**
+ * A suggested composite index on the tasks table, with the DDL and the matching
+ * {@code @Table(indexes = ...)} entry. {@code executions} counts the recorded
+ * statements the index would serve.
+ */
+public record IndexRecommendation(
+        String name,
+        List<String> columns,
+        long executions,
+        String sampleSql,
+        String ddl,
+        String annotation) {
+}
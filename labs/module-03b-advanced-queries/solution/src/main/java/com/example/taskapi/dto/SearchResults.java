@@ -0,0 +1,10 @@
+package com.example.taskapi.dto;
+
+import java.util.List;
+
+/**
+ * Search hits. Keyword searches return at most {@code limit} hits, best match first,
+ * and set {@code truncated} when more tasks matched than were returned.
+ */
+public record SearchResults<T>(List<T> content, int limit, boolean truncated) {
+}
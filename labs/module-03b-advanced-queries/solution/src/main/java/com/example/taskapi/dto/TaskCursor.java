@@ -0,0 +1,48 @@
+package com.example.taskapi.dto;
+
+import com.example.taskapi.entity.Task;
+import com.example.taskapi.entity.TaskPriority;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position after the last task of a keyset page, encoded as an opaque token.
+ */
+public record TaskCursor(Order order, LocalDateTime createdAt, TaskPriority priority, long id) {
+
+    public enum Order {
+        /** Newest first: createdAt DESC, id DESC */
+        CREATED,
+        /** Most urgent first: priority DESC, id ASC */
+        PRIORITY
+    }
+
+    public static TaskCursor after(Task task, Order order) {
+        return new TaskCursor(order, task.getCreatedAt(), task.getPriority(), task.getId());
+    }
+
+    public String encode() {
+        String key = order == Order.CREATED ? createdAt.toString() : priority.name();
+        String raw = order.name() + "|" + key + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String token, Order expectedOrder) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3 || Order.valueOf(parts[0]) != expectedOrder) {
+                throw new IllegalArgumentException("Cursor does not match order " + expectedOrder);
+            }
+            long id = Long.parseLong(parts[2]);
+            return expectedOrder == Order.CREATED
+                    ? new TaskCursor(expectedOrder, LocalDateTime.parse(parts[1]), null, id)
+                    : new TaskCursor(expectedOrder, null, TaskPriority.valueOf(parts[1]), id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+}
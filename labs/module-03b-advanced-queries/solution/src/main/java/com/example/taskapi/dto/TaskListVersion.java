@@ -0,0 +1,23 @@
+package com.example.taskapi.dto;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Validator for task lists, from one aggregate over the table. Inserts and deletes
+ * move the count, and every write bumps a row version, so the version sum changes
+ * even when two writes share a timestamp. The latest {@code updatedAt} is kept at
+ * full precision, so the weak ETag changes whenever a list could have changed.
+ */
+public record TaskListVersion(Long count, Long versionSum, LocalDateTime lastUpdated) {
+
+    public String eTag() {
+        String lastUpdatedTag = "none";
+        if (lastUpdated != null) {
+            Instant instant = lastUpdated.atZone(ZoneId.systemDefault()).toInstant();
+            lastUpdatedTag = instant.getEpochSecond() + "." + instant.getNano();
+        }
+        return "W/\"" + count + "-" + (versionSum == null ? 0 : versionSum) + "-" + lastUpdatedTag + "\"";
+    }
+}
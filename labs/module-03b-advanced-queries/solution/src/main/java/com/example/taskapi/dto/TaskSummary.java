@@ -0,0 +1,18 @@
+package com.example.taskapi.dto;
+
+import com.example.taskapi.entity.TaskPriority;
+import com.example.taskapi.entity.TaskStatus;
+
+import java.time.LocalDate;
+
+/**
+ * List view of a task. Selected column-by-column, so no managed entity is built.
+ */
+public record TaskSummary(
+        Long id,
+        String title,
+        TaskStatus status,
+        TaskPriority priority,
+        String assignee,
+        LocalDate dueDate) {
+}
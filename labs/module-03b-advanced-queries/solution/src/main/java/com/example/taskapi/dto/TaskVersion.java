@@ -0,0 +1,42 @@
+package com.example.taskapi.dto;
+
+import com.example.taskapi.entity.Task;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+
+/**
+ * Validators for a single task. The strong ETag changes with every committed write,
+ * because each one bumps the task's {@code @Version}.
+ */
+public record TaskVersion(Long id, Long version, LocalDateTime updatedAt) {
+
+    public static TaskVersion of(Task task) {
+        return new TaskVersion(task.getId(), task.getVersion(), task.getUpdatedAt());
+    }
+
+    public String eTag() {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    /**
+     * The version a strong ETag of task {@code id} was issued for. Weak tags and tags
+     * of other tasks never match, as If-Match requires strong comparison.
+     */
+    public static Optional<Long> versionOf(Long id, String eTag) {
+        String prefix = "\"" + id + "-";
+        if (!eTag.startsWith(prefix) || !eTag.endsWith("\"") || eTag.length() <= prefix.length() + 1) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Long.parseLong(eTag.substring(prefix.length(), eTag.length() - 1)));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    public long lastModified() {
+        return updatedAt == null ? -1 : updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -22,8 +22,6 @@ public class UpdateTaskRequest {
 
     private LocalDate dueDate;
 
-    private Long version; // For optimistic locking
-
     // Getters and Setters
     public String getTitle() { return title; }
     public void setTitle(String title) { this.title = title; }
@@ -42,7 +40,4 @@ public class UpdateTaskRequest {
 
     public LocalDate getDueDate() { return dueDate; }
     public void setDueDate(LocalDate dueDate) { this.dueDate = dueDate; }
-
-    public Long getVersion() { return version; }
-    public void setVersion(Long version) { this.version = version; }
 }
@@ -1,5 +1,6 @@
 package com.example.taskapi.entity;
 
+import com.example.taskapi.search.TaskIndexListener;
 import jakarta.persistence.*;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -9,12 +10,23 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tasks")
-@EntityListeners(AuditingEntityListener.class)
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_tasks_priority_id", columnList = "priority, id"),
+        // Recommended by IndexAdvisor for the repository queries
+        @Index(name = "idx_tasks_status_priority", columnList = "status, priority"),
+        @Index(name = "idx_tasks_status_id", columnList = "status, id"),
+        @Index(name = "idx_tasks_status_assignee", columnList = "status, assignee"),
+        @Index(name = "idx_tasks_priority_assignee", columnList = "priority, assignee"),
+        @Index(name = "idx_tasks_due_date", columnList = "due_date")
+})
+@EntityListeners({AuditingEntityListener.class, TaskIndexListener.class})
 public class Task {
 
+    // Pooled sequence rather than IDENTITY so Hibernate can batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
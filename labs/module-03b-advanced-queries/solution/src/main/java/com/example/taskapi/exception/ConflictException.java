@@ -1,8 +0,0 @@
-package com.example.taskapi.exception;
-
-public class ConflictException extends RuntimeException {
-
-    public ConflictException(String message) {
-        super(message);
-    }
-}
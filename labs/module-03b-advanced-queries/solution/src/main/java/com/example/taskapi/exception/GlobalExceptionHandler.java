@@ -1,8 +1,8 @@
 package com.example.taskapi.exception;
 
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.http.HttpStatus;
-import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -21,20 +21,45 @@ public class GlobalExceptionHandler {
         return createErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage(), request.getRequestURI());
     }
 
-    @ExceptionHandler(ConflictException.class)
+    @ExceptionHandler(JobNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public Map<String, Object> handleJobNotFound(JobNotFoundException ex, HttpServletRequest request) {
+        return createErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage(), request.getRequestURI());
+    }
+
+    @ExceptionHandler(TooManyJobsException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public Map<String, Object> handleTooManyJobs(TooManyJobsException ex, HttpServletRequest request) {
+        return createErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), request.getRequestURI());
+    }
+
+    @ExceptionHandler(RebuildInProgressException.class)
     @ResponseStatus(HttpStatus.CONFLICT)
-    public Map<String, Object> handleConflict(ConflictException ex, HttpServletRequest request) {
+    public Map<String, Object> handleRebuildInProgress(RebuildInProgressException ex, HttpServletRequest request) {
         return createErrorResponse(HttpStatus.CONFLICT, ex.getMessage(), request.getRequestURI());
     }
 
-    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    @ExceptionHandler(PreconditionFailedException.class)
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    public Map<String, Object> handlePreconditionFailed(PreconditionFailedException ex, HttpServletRequest request) {
+        return createErrorResponse(HttpStatus.PRECONDITION_FAILED, ex.getMessage(), request.getRequestURI());
+    }
+
+    // Optimistic-lock and serialization failures that outlasted the server-side retries
+    @ExceptionHandler(ConcurrencyFailureException.class)
     @ResponseStatus(HttpStatus.CONFLICT)
-    public Map<String, Object> handleOptimisticLock(ObjectOptimisticLockingFailureException ex, HttpServletRequest request) {
+    public Map<String, Object> handleOptimisticLock(ConcurrencyFailureException ex, HttpServletRequest request) {
         return createErrorResponse(HttpStatus.CONFLICT,
             "The resource was modified by another user. Please refresh and try again.",
             request.getRequestURI());
     }
 
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Map<String, Object> handleIllegalArgument(IllegalArgumentException ex, HttpServletRequest request) {
+        return createErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), request.getRequestURI());
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public Map<String, Object> handleValidation(MethodArgumentNotValidException ex, HttpServletRequest request) {
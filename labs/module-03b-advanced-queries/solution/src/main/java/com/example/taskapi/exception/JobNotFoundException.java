@@ -0,0 +1,8 @@
+package com.example.taskapi.exception;
+
+public class JobNotFoundException extends RuntimeException {
+
+    public JobNotFoundException(String jobId) {
+        super("Bulk job not found with id: " + jobId);
+    }
+}
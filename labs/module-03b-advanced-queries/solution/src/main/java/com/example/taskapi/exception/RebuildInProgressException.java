@@ -0,0 +1,8 @@
+package com.example.taskapi.exception;
+
+public class RebuildInProgressException extends RuntimeException {
+
+    public RebuildInProgressException() {
+        super("A search index rebuild is already running; try again once it has finished");
+    }
+}
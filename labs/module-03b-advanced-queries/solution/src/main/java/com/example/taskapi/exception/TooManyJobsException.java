@@ -0,0 +1,8 @@
+package com.example.taskapi.exception;
+
+public class TooManyJobsException extends RuntimeException {
+
+    public TooManyJobsException(int limit) {
+        super("Too many bulk jobs queued or running (limit " + limit + "); try again once some have finished");
+    }
+}
@@ -1,31 +1,51 @@
 package com.example.taskapi.repository;
 
+import com.example.taskapi.dto.TaskListVersion;
+import com.example.taskapi.dto.TaskSummary;
 import com.example.taskapi.entity.Task;
 import com.example.taskapi.entity.TaskPriority;
 import com.example.taskapi.entity.TaskStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>,
+        TaskSummaryRepository {
+
+    // DTO projection - selects only the list columns, no managed entities
+    @Query(value = "SELECT new com.example.taskapi.dto.TaskSummary(t.id, t.title, t.status, t.priority, t.assignee, t.dueDate) " +
+                   "FROM Task t",
+           countQuery = "SELECT COUNT(t) FROM Task t")
+    Page<TaskSummary> findAllSummaries(Pageable pageable);
+
+    // Conditional GET validator for task lists - one aggregate instead of the page and its count
+    @Query("SELECT new com.example.taskapi.dto.TaskListVersion(COUNT(t), SUM(t.version), MAX(t.updatedAt)) FROM Task t")
+    TaskListVersion findListVersion();
 
     // JPQL Query - find by status
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
     @Query("SELECT t FROM Task t WHERE t.status = :status ORDER BY t.priority DESC")
     List<Task> findByStatusOrderByPriority(@Param("status") TaskStatus status);
 
-    // JPQL Query - search by title and description
-    @Query("SELECT t FROM Task t WHERE LOWER(t.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "OR LOWER(t.description) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    List<Task> searchByKeyword(@Param("keyword") String keyword);
-
     // JPQL Query - find overdue tasks
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
     @Query("SELECT t FROM Task t WHERE t.dueDate < :date AND t.status != 'COMPLETED' AND t.status != 'CANCELLED'")
     List<Task> findOverdueTasks(@Param("date") LocalDate date);
 
@@ -45,9 +65,33 @@ public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificat
            nativeQuery = true)
     List<Task> findPendingTasksByAssigneeNative(@Param("assignee") String assignee);
 
-    // Modifying query - bulk update
+    // Keyset scan of matching ids for chunked bulk jobs
+    @Query("SELECT t.id FROM Task t WHERE t.status = :status AND t.id > :afterId ORDER BY t.id")
+    List<Long> findIdsByStatusAfter(@Param("status") TaskStatus status, @Param("afterId") long afterId, Limit limit);
+
+    long countByStatus(TaskStatus status);
+
+    // Counter reconciliation and bulk-update bookkeeping
+    @Query("SELECT t.status, t.priority, COUNT(t) FROM Task t GROUP BY t.status, t.priority")
+    List<Object[]> countByStatusAndPriority();
+
+    @Query("SELECT t.priority, COUNT(t) FROM Task t WHERE t.status = :status GROUP BY t.priority")
+    List<Object[]> countByPriorityForStatus(@Param("status") TaskStatus status);
+
+    // Modifying query - bulk update. It bypasses @Version and @PreUpdate, so it bumps
+    // both itself to keep ETags for the updated tasks and lists from going stale
     @Modifying
-    @Query("UPDATE Task t SET t.status = :newStatus WHERE t.status = :oldStatus")
+    @Query("UPDATE Task t SET t.status = :newStatus, t.version = t.version + 1, t.updatedAt = LOCAL DATETIME " +
+           "WHERE t.status = :oldStatus")
     int bulkUpdateStatus(@Param("oldStatus") TaskStatus oldStatus,
                          @Param("newStatus") TaskStatus newStatus);
+
+    // Forward-only cursor for exports; must be consumed inside a transaction and closed
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT t FROM Task t ORDER BY t.id")
+    Stream<Task> streamAllBy();
 }
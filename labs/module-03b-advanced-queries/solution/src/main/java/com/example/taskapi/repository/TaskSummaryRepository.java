@@ -0,0 +1,19 @@
+package com.example.taskapi.repository;
+
+import com.example.taskapi.dto.TaskSearchCriteria;
+import com.example.taskapi.dto.TaskSummary;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Summary projections for dynamic search.
+ */
+public interface TaskSummaryRepository {
+
+    /**
+     * Tasks matching every criterion that is set. {@code ids}, when not null, restricts
+     * the result to those tasks; the criteria keyword itself is not applied here.
+     */
+    List<TaskSummary> searchSummaries(TaskSearchCriteria criteria, Collection<Long> ids);
+}
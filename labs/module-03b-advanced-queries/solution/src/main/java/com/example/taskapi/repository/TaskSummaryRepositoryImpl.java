@@ -0,0 +1,115 @@
+package com.example.taskapi.repository;
+
+import com.example.taskapi.dto.TaskSearchCriteria;
+import com.example.taskapi.dto.TaskSummary;
+import com.example.taskapi.entity.TaskStatus;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Dynamic search without per-request query building.
+ * Each combination of criteria that are set is a query shape, encoded as a bit mask.
+ * The JPQL for a shape is generated once and cached with named parameters, and values
+ * are bound per call. Because the text is identical for every request of the same
+ * shape, Hibernate's query plan cache also skips re-translating it. Cache hits and
+ * misses are published as {@code tasks.search.query-cache} and the number of cached
+ * shapes as {@code tasks.search.query-cache.shapes}.
+ */
+class TaskSummaryRepositoryImpl implements TaskSummaryRepository {
+
+    private static final int IDS = 1;
+    private static final int STATUS = 1 << 1;
+    private static final int PRIORITY = 1 << 2;
+    private static final int PRIORITIES = 1 << 3;
+    private static final int ASSIGNEE = 1 << 4;
+    private static final int DUE_FROM = 1 << 5;
+    private static final int DUE_TO = 1 << 6;
+    private static final int OVERDUE = 1 << 7;
+
+    private static final List<TaskStatus> CLOSED_STATUSES = List.of(TaskStatus.COMPLETED, TaskStatus.CANCELLED);
+
+    private final EntityManager entityManager;
+    private final Map<Integer, String> queriesByShape = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    TaskSummaryRepositoryImpl(EntityManager entityManager, MeterRegistry meterRegistry) {
+        this.entityManager = entityManager;
+        lookups(meterRegistry, "hit", hits);
+        lookups(meterRegistry, "miss", misses);
+        Gauge.builder("tasks.search.query-cache.shapes", queriesByShape, Map::size)
+                .description("Search query shapes with cached JPQL")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public List<TaskSummary> searchSummaries(TaskSearchCriteria criteria, Collection<Long> ids) {
+        int shape = shapeOf(criteria, ids);
+        String jpql = queriesByShape.get(shape);
+        if (jpql != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            jpql = queriesByShape.computeIfAbsent(shape, TaskSummaryRepositoryImpl::buildQuery);
+        }
+
+        TypedQuery<TaskSummary> query = entityManager.createQuery(jpql, TaskSummary.class);
+        if ((shape & IDS) != 0) query.setParameter("ids", ids);
+        if ((shape & STATUS) != 0) query.setParameter("status", criteria.getStatus());
+        if ((shape & PRIORITY) != 0) query.setParameter("priority", criteria.getPriority());
+        if ((shape & PRIORITIES) != 0) query.setParameter("priorities", criteria.getPriorities());
+        if ((shape & ASSIGNEE) != 0) query.setParameter("assignee", criteria.getAssignee());
+        if ((shape & DUE_FROM) != 0) query.setParameter("dueFrom", criteria.getDueDateFrom());
+        if ((shape & DUE_TO) != 0) query.setParameter("dueTo", criteria.getDueDateTo());
+        if ((shape & OVERDUE) != 0) {
+            query.setParameter("today", LocalDate.now());
+            query.setParameter("closed", CLOSED_STATUSES);
+        }
+        return query.getResultList();
+    }
+
+    private static void lookups(MeterRegistry meterRegistry, String result, LongAdder count) {
+        FunctionCounter.builder("tasks.search.query-cache", count, LongAdder::sum)
+                .description("Search query shape cache lookups, by whether the JPQL was cached")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static int shapeOf(TaskSearchCriteria criteria, Collection<Long> ids) {
+        int shape = 0;
+        if (ids != null) shape |= IDS;
+        if (criteria.getStatus() != null) shape |= STATUS;
+        if (criteria.getPriority() != null) shape |= PRIORITY;
+        if (criteria.getPriorities() != null && !criteria.getPriorities().isEmpty()) shape |= PRIORITIES;
+        if (criteria.getAssignee() != null && !criteria.getAssignee().isBlank()) shape |= ASSIGNEE;
+        if (criteria.getDueDateFrom() != null) shape |= DUE_FROM;
+        if (criteria.getDueDateTo() != null) shape |= DUE_TO;
+        if (Boolean.TRUE.equals(criteria.getOverdue())) shape |= OVERDUE;
+        return shape;
+    }
+
+    private static String buildQuery(int shape) {
+        StringBuilder jpql = new StringBuilder(
+                "SELECT new com.example.taskapi.dto.TaskSummary(t.id, t.title, t.status, t.priority, t.assignee, t.dueDate) " +
+                "FROM Task t WHERE 1 = 1");
+        if ((shape & IDS) != 0) jpql.append(" AND t.id IN :ids");
+        if ((shape & STATUS) != 0) jpql.append(" AND t.status = :status");
+        if ((shape & PRIORITY) != 0) jpql.append(" AND t.priority = :priority");
+        if ((shape & PRIORITIES) != 0) jpql.append(" AND t.priority IN :priorities");
+        if ((shape & ASSIGNEE) != 0) jpql.append(" AND t.assignee = :assignee");
+        if ((shape & DUE_FROM) != 0) jpql.append(" AND t.dueDate >= :dueFrom");
+        if ((shape & DUE_TO) != 0) jpql.append(" AND t.dueDate <= :dueTo");
+        if ((shape & OVERDUE) != 0) jpql.append(" AND t.dueDate < :today AND t.status NOT IN :closed");
+        return jpql.toString();
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.taskapi.routing;
+
+import java.util.function.Supplier;
+
+/**
+ * Pins the current thread's reads to the primary.
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    public static void pin() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    public static void clear() {
+        PINNED.remove();
+    }
+
+    public static boolean isPinned() {
+        return PINNED.get() != null;
+    }
+
+    /**
+     * Runs {@code action} with reads pinned to the primary, for callers that must not
+     * see a lagging replica. An outer pin is left in place.
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        if (isPinned()) {
+            return action.get();
+        }
+        pin();
+        try {
+            return action.get();
+        } finally {
+            clear();
+        }
+    }
+}
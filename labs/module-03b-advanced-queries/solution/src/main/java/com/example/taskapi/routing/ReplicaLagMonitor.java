@@ -0,0 +1,88 @@
+package com.example.taskapi.routing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Estimates replica lag from a heartbeat row the primary rewrites on every tick:
+ * the lag is how old the replica's copy of that row is. The replica is used for
+ * reads only while the lag is within the tolerance; a replica whose heartbeat
+ * cannot be read counts as unusable.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private static final String CREATE_HEARTBEAT =
+            "CREATE TABLE IF NOT EXISTS replication_heartbeat (id INT PRIMARY KEY, beat_millis BIGINT NOT NULL)";
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final long maxLagMillis;
+
+    private boolean heartbeatTableCreated;
+    private volatile long lagMillis = -1;
+    private volatile boolean replicaUsable;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, Duration maxLag) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.maxLagMillis = maxLag.toMillis();
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    /**
+     * Lag observed at the last refresh, or empty if the replica could not be read
+     */
+    public Optional<Duration> getLag() {
+        long lag = lagMillis;
+        return lag < 0 ? Optional.empty() : Optional.of(Duration.ofMillis(lag));
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.heartbeat-interval:1s}")
+    public synchronized void refresh() {
+        long now = System.currentTimeMillis();
+        try {
+            beat(now);
+        } catch (DataAccessException e) {
+            log.warn("Failed to write replication heartbeat to the primary", e);
+        }
+
+        long lag;
+        try {
+            Long replicaBeat = replica.queryForObject(
+                    "SELECT beat_millis FROM replication_heartbeat WHERE id = 1", Long.class);
+            lag = replicaBeat == null ? -1 : Math.max(0, now - replicaBeat);
+        } catch (DataAccessException e) {
+            lag = -1;
+        }
+
+        boolean usable = lag >= 0 && lag <= maxLagMillis;
+        if (usable != replicaUsable) {
+            log.info(usable ? "Routing read-only transactions to the replica (lag {} ms)"
+                    : "Routing all transactions to the primary (replica lag {} ms)", lag);
+        }
+        lagMillis = lag;
+        replicaUsable = usable;
+    }
+
+    private void beat(long now) {
+        if (!heartbeatTableCreated) {
+            primary.execute(CREATE_HEARTBEAT);
+            heartbeatTableCreated = true;
+        }
+        if (primary.update("UPDATE replication_heartbeat SET beat_millis = ? WHERE id = 1", now) == 0) {
+            primary.update("INSERT INTO replication_heartbeat (id, beat_millis) VALUES (1, ?)", now);
+        }
+    }
+}
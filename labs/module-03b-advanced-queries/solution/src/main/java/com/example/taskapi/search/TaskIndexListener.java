@@ -0,0 +1,55 @@
+package com.example.taskapi.search;
+
+import com.example.taskapi.entity.Task;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener that mirrors task writes into the {@link TaskSearchIndex}.
+ * Changes are applied after the surrounding transaction commits, so rolled-back
+ * writes never reach the index. JPQL bulk updates bypass entity callbacks, but
+ * they never touch the indexed title and description columns.
+ */
+@Component
+public class TaskIndexListener {
+
+    // Resolved lazily: Hibernate creates this listener while the EntityManagerFactory is still starting
+    private final ObjectProvider<TaskSearchIndex> searchIndex;
+
+    public TaskIndexListener(ObjectProvider<TaskSearchIndex> searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Task task) {
+        Long id = task.getId();
+        String title = task.getTitle();
+        String description = task.getDescription();
+        afterCommit(() -> searchIndex.getObject().index(id, title, description));
+    }
+
+    @PostRemove
+    public void onRemove(Task task) {
+        Long id = task.getId();
+        afterCommit(() -> searchIndex.getObject().remove(id));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
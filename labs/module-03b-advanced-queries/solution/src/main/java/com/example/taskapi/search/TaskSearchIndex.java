@@ -0,0 +1,220 @@
+package com.example.taskapi.search;
+
+import com.example.taskapi.entity.Task;
+import com.example.taskapi.exception.RebuildInProgressException;
+import com.example.taskapi.repository.TaskRepository;
+import com.example.taskapi.routing.ReadYourWrites;
+import com.example.taskapi.seed.TasksSeededEvent;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * In-memory inverted index over task titles and descriptions.
+ * Every term maps to the ids of the tasks containing it and how often it occurs
+ * (title terms count double). Query terms match indexed terms by prefix and hits are
+ * ranked by TF-IDF, so keyword search costs a few map lookups instead of a
+ * {@code LIKE '%kw%'} scan over the whole table.
+ * <p>
+ * {@link TaskIndexListener} keeps the index in step with committed entity changes;
+ * {@link #rebuild()} repopulates it from the database.
+ */
+@Component
+public class TaskSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskSearchIndex.class);
+    private static final int TITLE_WEIGHT = 2;
+    private static final double PREFIX_MATCH_WEIGHT = 0.5;
+    private static final int REBUILD_CHUNK_SIZE = 500;
+
+    private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private volatile Segment segment = new Segment();
+    private List<Runnable> changesDuringRebuild;
+
+    public TaskSearchIndex(TaskRepository taskRepository,
+                           EntityManager entityManager,
+                           PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public synchronized void index(Long id, String title, String description) {
+        segment.put(id, title, description);
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(() -> segment.put(id, title, description));
+        }
+    }
+
+    public synchronized void remove(Long id) {
+        segment.remove(id);
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(() -> segment.remove(id));
+        }
+    }
+
+    public int size() {
+        return segment.documents.size();
+    }
+
+    /**
+     * Ids of all tasks matching every term of {@code keyword}, best match first.
+     */
+    public List<Long> search(String keyword) {
+        List<String> terms = tokenize(keyword);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        Segment current = segment;
+        Map<Long, Double> scores = null;
+        for (String term : terms) {
+            Map<Long, Double> termScores = current.score(term);
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                scores.keySet().retainAll(termScores.keySet());
+                scores.replaceAll((id, score) -> score + termScores.get(id));
+            }
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    @EventListener({ApplicationReadyEvent.class, TasksSeededEvent.class})
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * Re-reads every task into a fresh segment and swaps it in. Changes committed
+     * while the scan runs are replayed onto the new segment before the swap. The scan
+     * reads the primary: a lagging replica would drop writes committed before it began.
+     */
+    public int rebuild() {
+        synchronized (this) {
+            if (changesDuringRebuild != null) {
+                throw new RebuildInProgressException();
+            }
+            changesDuringRebuild = new ArrayList<>();
+        }
+
+        Segment rebuilt = new Segment();
+        boolean complete = false;
+        try {
+            ReadYourWrites.onPrimary(() -> readOnlyTransaction.execute(status -> scanInto(rebuilt)));
+            complete = true;
+        } finally {
+            synchronized (this) {
+                List<Runnable> pending = changesDuringRebuild;
+                changesDuringRebuild = null;
+                if (complete) {
+                    segment = rebuilt;
+                    pending.forEach(Runnable::run);
+                }
+            }
+        }
+
+        log.info("Search index rebuilt: {} tasks, {} terms", rebuilt.documents.size(), rebuilt.postings.size());
+        return rebuilt.documents.size();
+    }
+
+    private int scanInto(Segment target) {
+        int count = 0;
+        try (Stream<Task> tasks = taskRepository.streamAllBy()) {
+            for (Iterator<Task> it = tasks.iterator(); it.hasNext(); ) {
+                Task task = it.next();
+                target.put(task.getId(), task.getTitle(), task.getDescription());
+                if (++count % REBUILD_CHUNK_SIZE == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        return count;
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase());
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static final class Segment {
+        private final NavigableMap<String, Map<Long, Integer>> postings = new ConcurrentSkipListMap<>();
+        private final Map<Long, Map<String, Integer>> documents = new ConcurrentHashMap<>();
+
+        private void put(Long id, String title, String description) {
+            remove(id);
+            Map<String, Integer> frequencies = new HashMap<>();
+            tokenize(title).forEach(term -> frequencies.merge(term, TITLE_WEIGHT, Integer::sum));
+            tokenize(description).forEach(term -> frequencies.merge(term, 1, Integer::sum));
+            frequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, t -> new ConcurrentHashMap<>()).put(id, frequency));
+            documents.put(id, frequencies);
+        }
+
+        private void remove(Long id) {
+            Map<String, Integer> previous = documents.remove(id);
+            if (previous == null) {
+                return;
+            }
+            previous.keySet().forEach(term -> postings.computeIfPresent(term, (t, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            }));
+        }
+
+        // Sums tf * idf over every indexed term starting with queryTerm
+        private Map<Long, Double> score(String queryTerm) {
+            Map<Long, Double> scores = new HashMap<>();
+            int totalDocuments = Math.max(documents.size(), 1);
+            for (Map.Entry<String, Map<Long, Integer>> entry
+                    : postings.subMap(queryTerm, true, queryTerm + Character.MAX_VALUE, false).entrySet()) {
+                Map<Long, Integer> ids = entry.getValue();
+                double idf = Math.log(1.0 + (double) totalDocuments / ids.size());
+                double weight = entry.getKey().equals(queryTerm) ? 1.0 : PREFIX_MATCH_WEIGHT;
+                ids.forEach((id, frequency) -> scores.merge(id, frequency * idf * weight, Double::sum));
+            }
+            return scores;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.taskapi.seed;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.seed")
+public class SeedProperties {
+
+    // Synthetic tasks are loaded only when this is switched on
+    private boolean enabled;
+
+    private int rows = 100_000;
+
+    // Rows per JDBC batch; each batch commits on its own
+    private int batchSize = 1_000;
+
+    // The same seed always generates the same tasks
+    private long randomSeed = 42;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public void setRows(int rows) {
+        this.rows = rows;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getRandomSeed() {
+        return randomSeed;
+    }
+
+    public void setRandomSeed(long randomSeed) {
+        this.randomSeed = randomSeed;
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.taskapi.seed;
+
+import com.example.taskapi.entity.Task;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads synthetic tasks straight into the tasks table with JDBC batches: no entities
+ * are managed, no entity listeners run, and each batch commits in its own transaction.
+ * Seeding starts on a background thread once the application is ready, so neither
+ * startup nor the readiness probe waits for it. Progress is logged in rows per second,
+ * and a {@link TasksSeededEvent} tells in-memory views of the tasks to reload at the end.
+ */
+public class TaskSeeder {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskSeeder.class);
+
+    private static final String INSERT_TASK =
+            "INSERT INTO tasks (id, title, description, status, priority, assignee, due_date, version, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, 0, ?, ?)";
+
+    // Must match the allocationSize of Task's pooled id sequence: every sequence value
+    // reserves the block of ids ending at it, exactly as Hibernate's pooled optimizer does
+    private static final int ID_BLOCK_SIZE = 50;
+
+    private static final long REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final SeedProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final ApplicationEventPublisher events;
+    private final String nextIdBlockQuery;
+
+    public TaskSeeder(SeedProperties properties,
+                      DataSource dataSource,
+                      PlatformTransactionManager transactionManager,
+                      EntityManagerFactory entityManagerFactory,
+                      ApplicationEventPublisher events) {
+        if (properties.getRows() < 0 || properties.getBatchSize() < 1) {
+            throw new IllegalArgumentException("Seed rows must not be negative and batch size must be at least 1");
+        }
+        this.properties = properties;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.events = events;
+        this.nextIdBlockQuery = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect().getSequenceSupport().getSequenceNextValString("tasks_seq");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedInBackground() {
+        Thread seeder = new Thread(() -> {
+            try {
+                seed();
+            } catch (RuntimeException e) {
+                log.error("Seeding synthetic tasks failed", e);
+            }
+        }, "task-seeder");
+        seeder.setDaemon(true);
+        seeder.start();
+    }
+
+    /**
+     * Generates and inserts the configured number of tasks, returning how many were inserted.
+     */
+    public long seed() {
+        int rows = properties.getRows();
+        int batchSize = properties.getBatchSize();
+        SyntheticTaskGenerator generator = new SyntheticTaskGenerator(properties.getRandomSeed(), LocalDateTime.now());
+        log.info("Seeding {} synthetic tasks in batches of {}", rows, batchSize);
+
+        long started = System.nanoTime();
+        long lastReport = started;
+        long nextId = 1;
+        long lastId = 0;
+        int seeded = 0;
+        while (seeded < rows) {
+            List<Task> batch = new ArrayList<>(Math.min(batchSize, rows - seeded));
+            while (batch.size() < batchSize && seeded + batch.size() < rows) {
+                if (nextId > lastId) {
+                    lastId = nextIdBlock();
+                    nextId = lastId - ID_BLOCK_SIZE + 1;
+                }
+                Task task = generator.next();
+                task.setId(nextId++);
+                batch.add(task);
+            }
+            transaction.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_TASK, batch, batch.size(), TaskSeeder::bind));
+            seeded += batch.size();
+
+            long now = System.nanoTime();
+            if (now - lastReport >= REPORT_INTERVAL_NANOS) {
+                log.info("Seeded {}/{} tasks ({} rows/s)", seeded, rows, rowsPerSecond(seeded, now - started));
+                lastReport = now;
+            }
+        }
+
+        log.info("Seeded {} tasks in {} ms ({} rows/s)", seeded,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started),
+                rowsPerSecond(seeded, System.nanoTime() - started));
+        events.publishEvent(new TasksSeededEvent(seeded));
+        return seeded;
+    }
+
+    private long nextIdBlock() {
+        Long last = jdbcTemplate.queryForObject(nextIdBlockQuery, Long.class);
+        // Hibernate starts a fresh sequence at its initial value and takes the next one as
+        // the end of its first block; skip that value rather than reserve ids below 1
+        if (last == null || last < ID_BLOCK_SIZE) {
+            last = jdbcTemplate.queryForObject(nextIdBlockQuery, Long.class);
+        }
+        return last;
+    }
+
+    private static void bind(PreparedStatement statement, Task task) throws SQLException {
+        statement.setLong(1, task.getId());
+        statement.setString(2, task.getTitle());
+        statement.setString(3, task.getDescription());
+        statement.setString(4, task.getStatus().name());
+        statement.setString(5, task.getPriority().name());
+        statement.setString(6, task.getAssignee());
+        statement.setObject(7, task.getDueDate(), Types.DATE);
+        statement.setObject(8, task.getCreatedAt(), Types.TIMESTAMP);
+        statement.setObject(9, task.getUpdatedAt(), Types.TIMESTAMP);
+    }
+
+    private static long rowsPerSecond(long rows, long nanos) {
+        return nanos == 0 ? rows : rows * TimeUnit.SECONDS.toNanos(1) / nanos;
+    }
+}
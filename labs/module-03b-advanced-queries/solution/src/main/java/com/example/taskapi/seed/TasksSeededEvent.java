@@ -0,0 +1,8 @@
+package com.example.taskapi.seed;
+
+/**
+ * Published once synthetic tasks have been loaded behind JPA's back, so components
+ * that keep task state in memory can reload it.
+ */
+public record TasksSeededEvent(long rows) {
+}
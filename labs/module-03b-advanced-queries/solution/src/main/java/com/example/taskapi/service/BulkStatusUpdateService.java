@@ -0,0 +1,209 @@
+package com.example.taskapi.service;
+
+import com.example.taskapi.dto.BulkJobStatus;
+import com.example.taskapi.entity.Task;
+import com.example.taskapi.entity.TaskStatus;
+import com.example.taskapi.exception.TooManyJobsException;
+import com.example.taskapi.repository.TaskRepository;
+import com.example.taskapi.routing.ReadYourWrites;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs bulk status updates as background jobs.
+ * Matching ids are read in keyset order, {@code chunkSize} at a time, and each chunk
+ * is updated through the entities in its own short transaction, so {@code @Version},
+ * {@code updatedAt} and entity listeners all apply and no transaction holds locks on
+ * more than one chunk. Up to {@code parallelism} chunks run at once; jobs themselves
+ * run one after another. Ids are read from the primary, so a lagging replica cannot
+ * hide matching rows. Up to {@code MAX_RETAINED_JOBS} jobs are kept; once that many
+ * are queued or running, new jobs are refused.
+ */
+@Service
+public class BulkStatusUpdateService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkStatusUpdateService.class);
+    private static final int MAX_CHUNK_ATTEMPTS = 3;
+    private static final int MAX_RETAINED_JOBS = 100;
+
+    private final TaskRepository taskRepository;
+    private final TaskCounters counters;
+    private final TransactionTemplate transaction;
+    private final int chunkSize;
+    private final int parallelism;
+    private final ExecutorService coordinator;
+    private final ExecutorService workers;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    public BulkStatusUpdateService(TaskRepository taskRepository,
+                                   TaskCounters counters,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${app.bulk.chunk-size:500}") int chunkSize,
+                                   @Value("${app.bulk.parallelism:4}") int parallelism) {
+        if (chunkSize < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("Bulk chunk size and parallelism must be at least 1");
+        }
+        this.taskRepository = taskRepository;
+        this.counters = counters;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.coordinator = Executors.newSingleThreadExecutor(threads("bulk-job-"));
+        this.workers = Executors.newFixedThreadPool(parallelism, threads("bulk-chunk-"));
+    }
+
+    public BulkJobStatus start(TaskStatus fromStatus, TaskStatus toStatus) {
+        if (fromStatus == toStatus) {
+            throw new IllegalArgumentException("fromStatus and toStatus must differ");
+        }
+        Job job = new Job(UUID.randomUUID().toString(), fromStatus, toStatus);
+        synchronized (jobs) {
+            if (jobs.size() >= MAX_RETAINED_JOBS && !evictOldestFinishedJob()) {
+                throw new TooManyJobsException(MAX_RETAINED_JOBS);
+            }
+            jobs.put(job.id, job);
+        }
+        coordinator.execute(() -> run(job));
+        log.info("Queued bulk job {}: {} -> {}", job.id, fromStatus, toStatus);
+        return job.status();
+    }
+
+    public Optional<BulkJobStatus> getJob(String id) {
+        return Optional.ofNullable(jobs.get(id)).map(Job::status);
+    }
+
+    private void run(Job job) {
+        job.startedAt = LocalDateTime.now();
+        job.total = ReadYourWrites.onPrimary(() -> taskRepository.countByStatus(job.fromStatus));
+        job.state = BulkJobStatus.State.RUNNING;
+
+        // Bounds how far id reading can run ahead of the workers
+        Semaphore inFlight = new Semaphore(parallelism * 2);
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        try {
+            long afterId = 0;
+            List<Long> ids;
+            while (!(ids = nextIds(job, afterId)).isEmpty()) {
+                afterId = ids.get(ids.size() - 1);
+                inFlight.acquire();
+                List<Long> chunk = ids;
+                chunks.add(CompletableFuture.runAsync(() -> processChunk(job, chunk), workers)
+                        .whenComplete((result, error) -> inFlight.release()));
+            }
+            CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).join();
+            job.state = BulkJobStatus.State.COMPLETED;
+        } catch (Exception e) {
+            log.error("Bulk job {} failed", job.id, e);
+            job.error = e.getMessage();
+            job.state = BulkJobStatus.State.FAILED;
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+            log.info("Bulk job {} {}: updated {}, failed {}",
+                    job.id, job.state, job.updated.get(), job.failed.get());
+        }
+    }
+
+    private List<Long> nextIds(Job job, long afterId) {
+        return ReadYourWrites.onPrimary(
+                () -> taskRepository.findIdsByStatusAfter(job.fromStatus, afterId, Limit.of(chunkSize)));
+    }
+
+    private void processChunk(Job job, List<Long> ids) {
+        for (int attempt = 1; attempt <= MAX_CHUNK_ATTEMPTS; attempt++) {
+            try {
+                Integer updated = transaction.execute(status -> updateChunk(job, ids));
+                job.updated.addAndGet(updated);
+                job.processed.addAndGet(ids.size());
+                return;
+            } catch (ConcurrencyFailureException e) {
+                log.debug("Bulk job {} chunk conflict on attempt {}", job.id, attempt);
+            }
+        }
+        job.failed.addAndGet(ids.size());
+        job.processed.addAndGet(ids.size());
+    }
+
+    // Tasks whose status changed since their ids were read are left alone
+    private int updateChunk(Job job, List<Long> ids) {
+        int updated = 0;
+        for (Task task : taskRepository.findAllById(ids)) {
+            if (task.getStatus() == job.fromStatus) {
+                task.setStatus(job.toStatus);
+                counters.moved(job.fromStatus, task.getPriority(), job.toStatus, task.getPriority());
+                updated++;
+            }
+        }
+        return updated;
+    }
+
+    // False when every retained job is still queued or running
+    private boolean evictOldestFinishedJob() {
+        Optional<Job> oldest = jobs.values().stream()
+                .filter(job -> job.finishedAt != null)
+                .min((a, b) -> a.finishedAt.compareTo(b.finishedAt));
+        oldest.ifPresent(job -> jobs.remove(job.id));
+        return oldest.isPresent();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        coordinator.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    private static ThreadFactory threads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class Job {
+        private final String id;
+        private final TaskStatus fromStatus;
+        private final TaskStatus toStatus;
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicLong updated = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private volatile BulkJobStatus.State state = BulkJobStatus.State.QUEUED;
+        private volatile long total;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+
+        private Job(String id, TaskStatus fromStatus, TaskStatus toStatus) {
+            this.id = id;
+            this.fromStatus = fromStatus;
+            this.toStatus = toStatus;
+        }
+
+        private BulkJobStatus status() {
+            return new BulkJobStatus(id, fromStatus, toStatus, state, total,
+                    processed.get(), updated.get(), failed.get(), startedAt, finishedAt, error);
+        }
+    }
+}
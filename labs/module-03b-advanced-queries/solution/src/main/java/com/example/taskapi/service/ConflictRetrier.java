@@ -0,0 +1,90 @@
+package com.example.taskapi.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Retries work that lost a concurrent-update race, such as an optimistic-lock
+ * version mismatch. Each attempt must run in its own transaction so it reloads the
+ * current row and reapplies its changes. Between attempts the caller sleeps for a
+ * random time up to an exponentially growing cap, which spreads contending writers
+ * apart instead of letting them collide again in lockstep.
+ */
+@Component
+public class ConflictRetrier {
+
+    private static final Logger log = LoggerFactory.getLogger(ConflictRetrier.class);
+
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+
+    public ConflictRetrier(MeterRegistry meterRegistry,
+                           @Value("${app.conflict-retry.max-attempts:8}") int maxAttempts,
+                           @Value("${app.conflict-retry.initial-backoff:5ms}") Duration initialBackoff,
+                           @Value("${app.conflict-retry.max-backoff:200ms}") Duration maxBackoff) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Conflict retry max attempts must be at least 1");
+        }
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffNanos = initialBackoff.toNanos();
+        this.maxBackoffNanos = maxBackoff.toNanos();
+    }
+
+    public <T> T execute(String operation, Supplier<T> attempt) {
+        for (int attemptNumber = 1; ; attemptNumber++) {
+            try {
+                T result = attempt.get();
+                attempts(operation).record(attemptNumber);
+                return result;
+            } catch (ConcurrencyFailureException e) {
+                boolean exhausted = attemptNumber >= maxAttempts;
+                conflicts(operation, exhausted ? "exhausted" : "retried").increment();
+                if (exhausted) {
+                    attempts(operation).record(attemptNumber);
+                    log.warn("{} still conflicting after {} attempts", operation, attemptNumber);
+                    throw e;
+                }
+                backOff(attemptNumber, e);
+            }
+        }
+    }
+
+    private void backOff(int attemptNumber, ConcurrencyFailureException conflict) {
+        long cap = Math.min(maxBackoffNanos, initialBackoffNanos << Math.min(attemptNumber - 1, 20));
+        long delay = ThreadLocalRandom.current().nextLong(cap + 1);
+        try {
+            Thread.sleep(delay / 1_000_000, (int) (delay % 1_000_000));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw conflict;
+        }
+    }
+
+    private Counter conflicts(String operation, String outcome) {
+        return Counter.builder("tasks.conflicts")
+                .description("Concurrent-update conflicts, by whether they were retried")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private DistributionSummary attempts(String operation) {
+        return DistributionSummary.builder("tasks.conflict.attempts")
+                .description("Attempts needed per conflict-retried operation")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.taskapi.service;
+
+import com.example.taskapi.entity.TaskPriority;
+import com.example.taskapi.entity.TaskStatus;
+import com.example.taskapi.repository.TaskRepository;
+import com.example.taskapi.routing.ReadYourWrites;
+import com.example.taskapi.seed.TasksSeededEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.example.taskapi.service.TransactionHooks.afterCommit;
+
+/**
+ * Task counts per status and priority, kept in memory so stats reads are O(1).
+ * Service writes adjust the counts once their transaction commits; {@link #reconcile()}
+ * reloads them from the primary at startup and periodically, correcting drift from
+ * writes that bypass the service. Changes committed while a reload reads the database
+ * are recorded and added on top of what it read, so the reload never discards them.
+ */
+@Component
+public class TaskCounters {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskCounters.class);
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+
+    private final TaskRepository taskRepository;
+    private final LongAdder[][] counts = new LongAdder[STATUSES.length][PRIORITIES.length];
+
+    // Guarded by this; non-null while reconcile() is reading the database
+    private long[][] changesDuringReconcile;
+    private volatile boolean reconciling;
+
+    public TaskCounters(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+        for (LongAdder[] row : counts) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] = new LongAdder();
+            }
+        }
+    }
+
+    public void added(TaskStatus status, TaskPriority priority) {
+        afterCommit(() -> change(status, priority, 1));
+    }
+
+    public void removed(TaskStatus status, TaskPriority priority) {
+        afterCommit(() -> change(status, priority, -1));
+    }
+
+    public void moved(TaskStatus fromStatus, TaskPriority fromPriority, TaskStatus toStatus, TaskPriority toPriority) {
+        if (fromStatus == toStatus && fromPriority == toPriority) {
+            return;
+        }
+        afterCommit(() -> {
+            change(fromStatus, fromPriority, -1);
+            change(toStatus, toPriority, 1);
+        });
+    }
+
+    public void movedAll(TaskStatus fromStatus, TaskStatus toStatus, Map<TaskPriority, Long> countsByPriority) {
+        if (fromStatus == toStatus) {
+            return;
+        }
+        afterCommit(() -> countsByPriority.forEach((priority, count) -> {
+            change(fromStatus, priority, -count);
+            change(toStatus, priority, count);
+        }));
+    }
+
+    public long count(TaskStatus status) {
+        long total = 0;
+        for (LongAdder cell : counts[status.ordinal()]) {
+            total += cell.sum();
+        }
+        return total;
+    }
+
+    public long count(TaskPriority priority) {
+        long total = 0;
+        for (LongAdder[] row : counts) {
+            total += row[priority.ordinal()].sum();
+        }
+        return total;
+    }
+
+    // Only statuses that currently have tasks, matching the GROUP BY result this replaces
+    public Map<TaskStatus, Long> countByStatus() {
+        Map<TaskStatus, Long> result = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : STATUSES) {
+            long count = count(status);
+            if (count > 0) {
+                result.put(status, count);
+            }
+        }
+        return result;
+    }
+
+    public Map<TaskPriority, Long> countByPriority() {
+        Map<TaskPriority, Long> result = new EnumMap<>(TaskPriority.class);
+        for (TaskPriority priority : PRIORITIES) {
+            long count = count(priority);
+            if (count > 0) {
+                result.put(priority, count);
+            }
+        }
+        return result;
+    }
+
+    @EventListener({ApplicationReadyEvent.class, TasksSeededEvent.class})
+    @Scheduled(fixedDelayString = "${app.counters.reconcile-interval:5m}",
+               initialDelayString = "${app.counters.reconcile-interval:5m}")
+    public void reconcile() {
+        synchronized (this) {
+            if (changesDuringReconcile != null) {
+                log.debug("Task counter reconcile already running, skipping");
+                return;
+            }
+            changesDuringReconcile = new long[STATUSES.length][PRIORITIES.length];
+            reconciling = true;
+        }
+
+        long[][] actual = new long[STATUSES.length][PRIORITIES.length];
+        boolean complete = false;
+        long drift = 0;
+        try {
+            for (Object[] row : ReadYourWrites.onPrimary(taskRepository::countByStatusAndPriority)) {
+                actual[((TaskStatus) row[0]).ordinal()][((TaskPriority) row[1]).ordinal()] = (Long) row[2];
+            }
+            complete = true;
+        } finally {
+            synchronized (this) {
+                long[][] pending = changesDuringReconcile;
+                changesDuringReconcile = null;
+                reconciling = false;
+                if (complete) {
+                    for (int s = 0; s < STATUSES.length; s++) {
+                        for (int p = 0; p < PRIORITIES.length; p++) {
+                            long delta = actual[s][p] + pending[s][p] - counts[s][p].sum();
+                            if (delta != 0) {
+                                counts[s][p].add(delta);
+                                drift += Math.abs(delta);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        if (drift > 0) {
+            log.info("Reconciled task counters, corrected drift of {}", drift);
+        }
+    }
+
+    // Lock-free unless a reconcile is running, when the change is also recorded for it
+    private void change(TaskStatus status, TaskPriority priority, long delta) {
+        if (!reconciling) {
+            cell(status, priority).add(delta);
+            return;
+        }
+        synchronized (this) {
+            cell(status, priority).add(delta);
+            if (changesDuringReconcile != null) {
+                changesDuringReconcile[status.ordinal()][priority.ordinal()] += delta;
+            }
+        }
+    }
+
+    private LongAdder cell(TaskStatus status, TaskPriority priority) {
+        return counts[status.ordinal()][priority.ordinal()];
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.taskapi.service;
+
+import com.example.taskapi.entity.Task;
+import com.example.taskapi.repository.TaskRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Writes every task to an output stream one row at a time.
+ * Rows come from a forward-only database cursor and the persistence context is
+ * cleared every {@link #CHUNK_SIZE} rows, so memory use does not grow with the table.
+ */
+@Service
+public class TaskExportService {
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() { return contentType; }
+        public String getExtension() { return extension; }
+    }
+
+    static final int CHUNK_SIZE = 500;
+
+    private static final String CSV_HEADER =
+            "id,title,description,status,priority,assignee,dueDate,version,createdAt,updatedAt";
+
+    private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+    private final ObjectWriter jsonWriter;
+
+    public TaskExportService(TaskRepository taskRepository, EntityManager entityManager, ObjectMapper objectMapper) {
+        this.taskRepository = taskRepository;
+        this.entityManager = entityManager;
+        this.jsonWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Transactional(readOnly = true)
+    public long export(Format format, OutputStream out) throws IOException {
+        try (Stream<Task> tasks = taskRepository.streamAllBy()) {
+            return format == Format.NDJSON ? writeNdjson(tasks, out) : writeCsv(tasks, out);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private long writeNdjson(Stream<Task> tasks, OutputStream out) throws IOException {
+        long count = 0;
+        try (JsonGenerator generator = jsonWriter.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            for (Iterator<Task> it = tasks.iterator(); it.hasNext(); ) {
+                jsonWriter.writeValue(generator, it.next());
+                generator.writeRaw('\n');
+                if (++count % CHUNK_SIZE == 0) {
+                    endChunk(generator);
+                }
+            }
+        }
+        return count;
+    }
+
+    private long writeCsv(Stream<Task> tasks, OutputStream out) throws IOException {
+        long count = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        for (Iterator<Task> it = tasks.iterator(); it.hasNext(); ) {
+            Task task = it.next();
+            writer.write(String.join(",",
+                    String.valueOf(task.getId()),
+                    csv(task.getTitle()),
+                    csv(task.getDescription()),
+                    csv(task.getStatus()),
+                    csv(task.getPriority()),
+                    csv(task.getAssignee()),
+                    csv(task.getDueDate()),
+                    csv(task.getVersion()),
+                    csv(task.getCreatedAt()),
+                    csv(task.getUpdatedAt())));
+            writer.write('\n');
+            if (++count % CHUNK_SIZE == 0) {
+                endChunk(writer);
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    private void endChunk(Flushable out) throws IOException {
+        out.flush();
+        entityManager.clear();
+    }
+
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = Objects.toString(value);
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
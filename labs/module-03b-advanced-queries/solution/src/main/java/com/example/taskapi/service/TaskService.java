@@ -1,28 +1,56 @@
 package com.example.taskapi.service;
 
+import com.example.taskapi.advisor.IndexAdvisor;
+import com.example.taskapi.dto.BatchGetResponse;
+import com.example.taskapi.dto.BulkCreateResponse;
 import com.example.taskapi.dto.CreateTaskRequest;
+import com.example.taskapi.dto.CursorPage;
+import com.example.taskapi.dto.IndexRecommendation;
+import com.example.taskapi.dto.SearchResults;
+import com.example.taskapi.dto.TaskCursor;
+import com.example.taskapi.dto.TaskListVersion;
 import com.example.taskapi.dto.TaskSearchCriteria;
+import com.example.taskapi.dto.TaskSummary;
 import com.example.taskapi.dto.UpdateTaskRequest;
 import com.example.taskapi.entity.Task;
+import com.example.taskapi.entity.TaskPriority;
 import com.example.taskapi.entity.TaskStatus;
-import com.example.taskapi.exception.ConflictException;
+import com.example.taskapi.exception.PreconditionFailedException;
 import com.example.taskapi.exception.TaskNotFoundException;
 import com.example.taskapi.repository.TaskRepository;
+import com.example.taskapi.search.TaskSearchIndex;
 import com.example.taskapi.specification.TaskSpecifications;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.Session;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,18 +58,112 @@ import java.util.stream.Collectors;
 public class TaskService {
 
     private static final Logger log = LoggerFactory.getLogger(TaskService.class);
+    private static final int MAX_CURSOR_PAGE_SIZE = 1000;
+    private static final int MAX_BULK_CREATE_SIZE = 10_000;
+    private static final int MAX_KEYWORD_HITS = 1000;
+    private static final int KEYWORD_FILTER_CHUNK_SIZE = 1000;
+    private static final int MAX_BATCH_GET_SIZE = 1000;
+    private static final int BATCH_GET_CHUNK_SIZE = 100;
+    private static final List<TaskPriority> PRIORITY_ORDER =
+            List.of(TaskPriority.URGENT, TaskPriority.HIGH, TaskPriority.MEDIUM, TaskPriority.LOW);
     private final TaskRepository taskRepository;
+    private final TaskSearchIndex searchIndex;
+    private final TaskCounters counters;
+    private final IndexAdvisor indexAdvisor;
+    private final ConflictRetrier conflictRetrier;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate serializableTransaction;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final int batchSize;
 
-    public TaskService(TaskRepository taskRepository) {
+    public TaskService(TaskRepository taskRepository,
+                       TaskSearchIndex searchIndex,
+                       TaskCounters counters,
+                       IndexAdvisor indexAdvisor,
+                       ConflictRetrier conflictRetrier,
+                       PlatformTransactionManager transactionManager,
+                       EntityManager entityManager,
+                       Validator validator,
+                       @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
         this.taskRepository = taskRepository;
+        this.searchIndex = searchIndex;
+        this.counters = counters;
+        this.indexAdvisor = indexAdvisor;
+        this.conflictRetrier = conflictRetrier;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.serializableTransaction = new TransactionTemplate(transactionManager);
+        this.serializableTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_SERIALIZABLE);
+        this.serializableTransaction.setTimeout(30);
+        this.entityManager = entityManager;
+        this.validator = validator;
+        this.batchSize = batchSize;
     }
 
     public List<Task> findAll() {
         return taskRepository.findAll();
     }
 
-    public Page<Task> findAll(Pageable pageable) {
-        return taskRepository.findAll(pageable);
+    public Page<TaskSummary> findSummaries(Pageable pageable) {
+        return taskRepository.findAllSummaries(pageable);
+    }
+
+    // Keyset pagination: seeks past the cursor instead of skipping rows, and never counts
+    public CursorPage<Task> findPage(TaskCursor.Order order, String cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+        TaskCursor after = cursor == null || cursor.isBlank() ? null : TaskCursor.decode(cursor, order);
+        return order == TaskCursor.Order.CREATED
+                ? findPageByCreatedAt(after, size)
+                : findPageByPriority(after, size);
+    }
+
+    private CursorPage<Task> findPageByCreatedAt(TaskCursor after, int size) {
+        ScrollPosition position = after == null
+                ? ScrollPosition.keyset()
+                : ScrollPosition.forward(Map.of("createdAt", after.createdAt(), "id", after.id()));
+        Sort sort = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+        Window<Task> window = taskRepository.findBy(Specification.where(null),
+                query -> query.sortBy(sort).limit(size).scroll(position));
+        return toCursorPage(window.getContent(), size, window.hasNext(), TaskCursor.Order.CREATED);
+    }
+
+    // Walks one priority bucket at a time (most urgent first), seeking by id inside each bucket
+    private CursorPage<Task> findPageByPriority(TaskCursor after, int size) {
+        List<Task> content = new ArrayList<>();
+        boolean hasNext = false;
+        int start = after == null ? 0 : PRIORITY_ORDER.indexOf(after.priority());
+
+        for (int i = start; i < PRIORITY_ORDER.size(); i++) {
+            ScrollPosition position = after != null && i == start
+                    ? ScrollPosition.forward(Map.of("id", after.id()))
+                    : ScrollPosition.keyset();
+            int remaining = size - content.size();
+
+            Window<Task> window = taskRepository.findBy(TaskSpecifications.hasPriority(PRIORITY_ORDER.get(i)),
+                    query -> query.sortBy(Sort.by("id")).limit(remaining).scroll(position));
+            content.addAll(window.getContent());
+
+            if (window.hasNext()) {
+                hasNext = true;
+                break;
+            }
+            if (content.size() == size) {
+                List<TaskPriority> rest = PRIORITY_ORDER.subList(i + 1, PRIORITY_ORDER.size());
+                hasNext = !rest.isEmpty() && taskRepository.exists(TaskSpecifications.priorityIn(rest));
+                break;
+            }
+        }
+        return toCursorPage(content, size, hasNext, TaskCursor.Order.PRIORITY);
+    }
+
+    private CursorPage<Task> toCursorPage(List<Task> content, int size, boolean hasNext, TaskCursor.Order order) {
+        String nextCursor = hasNext && !content.isEmpty()
+                ? TaskCursor.after(content.get(content.size() - 1), order).encode()
+                : null;
+        return new CursorPage<>(content, size, hasNext, nextCursor);
     }
 
     public Task findById(Long id) {
@@ -49,27 +171,125 @@ public class TaskService {
                 .orElseThrow(() -> new TaskNotFoundException(id));
     }
 
+    public TaskListVersion findListVersion() {
+        return taskRepository.findListVersion();
+    }
+
+    // Tasks already in the persistence context are reused; the rest are loaded with one
+    // IN query per chunk. Unknown ids are reported instead of failing the whole batch.
+    public BatchGetResponse findByIds(List<Long> ids) {
+        if (ids.size() > MAX_BATCH_GET_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_GET_SIZE + " tasks can be fetched at once");
+        }
+        List<Long> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        Session session = entityManager.unwrap(Session.class);
+
+        List<Task> tasks = new ArrayList<>(distinctIds.size());
+        List<Long> missing = new ArrayList<>();
+        for (int from = 0; from < distinctIds.size(); from += BATCH_GET_CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + BATCH_GET_CHUNK_SIZE, distinctIds.size()));
+            List<Task> loaded = session.byMultipleIds(Task.class)
+                    .enableSessionCheck(true)
+                    .enableOrderedReturn(true)
+                    .multiLoad(chunk);
+            for (int i = 0; i < chunk.size(); i++) {
+                if (loaded.get(i) != null) {
+                    tasks.add(loaded.get(i));
+                } else {
+                    missing.add(chunk.get(i));
+                }
+            }
+        }
+        return new BatchGetResponse(tasks, missing);
+    }
+
     @Transactional
     public Task create(CreateTaskRequest request) {
+        Task task = toTask(request);
+
+        log.info("Creating task: {}", task.getTitle());
+        Task saved = taskRepository.save(task);
+        counters.added(saved.getStatus(), saved.getPriority());
+        return saved;
+    }
+
+    // Validates each item on its own so one bad item doesn't reject the rest.
+    // Valid items are persisted in one transaction, flushed as JDBC batches of batchSize,
+    // and the persistence context is cleared after each batch to keep it small.
+    @Transactional
+    public BulkCreateResponse createAll(List<CreateTaskRequest> requests) {
+        if (requests.isEmpty() || requests.size() > MAX_BULK_CREATE_SIZE) {
+            throw new IllegalArgumentException("Bulk create accepts between 1 and " + MAX_BULK_CREATE_SIZE + " tasks");
+        }
+
+        List<BulkCreateResponse.Item> results = new ArrayList<>(requests.size());
+        int created = 0;
+        for (int i = 0; i < requests.size(); i++) {
+            CreateTaskRequest request = requests.get(i);
+            Map<String, String> errors = validate(request);
+            if (!errors.isEmpty()) {
+                results.add(BulkCreateResponse.Item.rejected(i, errors));
+                continue;
+            }
+
+            Task task = toTask(request);
+            entityManager.persist(task);
+            counters.added(task.getStatus(), task.getPriority());
+            results.add(BulkCreateResponse.Item.created(i, task.getId()));
+            if (++created % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+
+        log.info("Bulk created {} tasks, rejected {}", created, requests.size() - created);
+        return new BulkCreateResponse(created, requests.size() - created, results);
+    }
+
+    private Map<String, String> validate(CreateTaskRequest request) {
+        if (request == null) {
+            return Map.of("request", "Task is required");
+        }
+        Set<ConstraintViolation<CreateTaskRequest>> violations = validator.validate(request);
+        Map<String, String> errors = new LinkedHashMap<>();
+        violations.forEach(violation ->
+                errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+        return errors;
+    }
+
+    private Task toTask(CreateTaskRequest request) {
         Task task = new Task();
         task.setTitle(request.getTitle());
         task.setDescription(request.getDescription());
         task.setPriority(request.getPriority());
         task.setAssignee(request.getAssignee());
         task.setDueDate(request.getDueDate());
-
-        log.info("Creating task: {}", task.getTitle());
-        return taskRepository.save(task);
+        return task;
     }
 
-    @Transactional
+    // Runs outside the class-level transaction so every retry attempt gets a fresh one
+    // that reloads the task and reapplies the request's fields
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Task update(Long id, UpdateTaskRequest request) {
+        return update(id, request, null);
+    }
+
+    // expectedVersion, when set, is the client's precondition (from If-Match) and is never retried past
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Task update(Long id, UpdateTaskRequest request, Long expectedVersion) {
+        return conflictRetrier.execute("update",
+                () -> transaction.execute(status -> applyUpdate(id, request, expectedVersion)));
+    }
+
+    private Task applyUpdate(Long id, UpdateTaskRequest request, Long expectedVersion) {
         Task task = findById(id);
 
         // Check for optimistic locking
-        if (request.getVersion() != null && !request.getVersion().equals(task.getVersion())) {
-            throw new ConflictException("Task was modified by another user. Please refresh and try again.");
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new PreconditionFailedException("Task was modified by another user. Please refresh and try again.");
         }
+        TaskStatus oldStatus = task.getStatus();
+        TaskPriority oldPriority = task.getPriority();
 
         if (request.getTitle() != null) {
             task.setTitle(request.getTitle());
@@ -91,45 +311,40 @@ public class TaskService {
         }
 
         log.info("Updating task: {}", id);
-        return taskRepository.save(task);
+        Task saved = taskRepository.save(task);
+        counters.moved(oldStatus, oldPriority, saved.getStatus(), saved.getPriority());
+        return saved;
     }
 
     @Transactional
     public void delete(Long id) {
-        if (!taskRepository.existsById(id)) {
-            throw new TaskNotFoundException(id);
-        }
+        Task task = findById(id);
         log.info("Deleting task: {}", id);
-        taskRepository.deleteById(id);
+        taskRepository.delete(task);
+        counters.removed(task.getStatus(), task.getPriority());
     }
 
-    // Dynamic search using Specifications
-    public List<Task> search(TaskSearchCriteria criteria) {
-        Specification<Task> spec = Specification.where(null);
-
-        if (criteria.getKeyword() != null && !criteria.getKeyword().isBlank()) {
-            spec = spec.and(TaskSpecifications.titleOrDescriptionContains(criteria.getKeyword()));
-        }
-        if (criteria.getStatus() != null) {
-            spec = spec.and(TaskSpecifications.hasStatus(criteria.getStatus()));
-        }
-        if (criteria.getPriority() != null) {
-            spec = spec.and(TaskSpecifications.hasPriority(criteria.getPriority()));
-        }
-        if (criteria.getPriorities() != null && !criteria.getPriorities().isEmpty()) {
-            spec = spec.and(TaskSpecifications.priorityIn(criteria.getPriorities()));
-        }
-        if (criteria.getAssignee() != null && !criteria.getAssignee().isBlank()) {
-            spec = spec.and(TaskSpecifications.assignedTo(criteria.getAssignee()));
-        }
-        if (criteria.getDueDateFrom() != null || criteria.getDueDateTo() != null) {
-            spec = spec.and(TaskSpecifications.dueDateBetween(criteria.getDueDateFrom(), criteria.getDueDateTo()));
+    // Dynamic search: keywords are resolved through the search index and ranked,
+    // the other criteria go through the cached per-shape query. Keyword hits are filtered
+    // a chunk at a time in rank order until MAX_KEYWORD_HITS matches are found, so
+    // matches ranked below the first chunk are never dropped
+    public SearchResults<TaskSummary> search(TaskSearchCriteria criteria) {
+        if (criteria.getKeyword() == null || criteria.getKeyword().isBlank()) {
+            return new SearchResults<>(taskRepository.searchSummaries(criteria, null), MAX_KEYWORD_HITS, false);
         }
-        if (Boolean.TRUE.equals(criteria.getOverdue())) {
-            spec = spec.and(TaskSpecifications.isOverdue());
+
+        List<Long> rankedIds = searchIndex.search(criteria.getKeyword());
+        List<TaskSummary> results = new ArrayList<>();
+        for (int from = 0; from < rankedIds.size() && results.size() <= MAX_KEYWORD_HITS;
+             from += KEYWORD_FILTER_CHUNK_SIZE) {
+            List<Long> chunk = rankedIds.subList(from, Math.min(from + KEYWORD_FILTER_CHUNK_SIZE, rankedIds.size()));
+            results.addAll(inRankOrder(taskRepository.searchSummaries(criteria, chunk), chunk, TaskSummary::id));
         }
+        return limited(results);
+    }
 
-        return taskRepository.findAll(spec);
+    public List<IndexRecommendation> getIndexRecommendations() {
+        return indexAdvisor.recommend();
     }
 
     // JPQL queries
@@ -137,20 +352,48 @@ public class TaskService {
         return taskRepository.findByStatusOrderByPriority(status);
     }
 
-    public List<Task> searchByKeyword(String keyword) {
-        return taskRepository.searchByKeyword(keyword);
+    public SearchResults<Task> searchByKeyword(String keyword) {
+        List<Long> rankedIds = searchIndex.search(keyword);
+        List<Long> top = rankedIds.subList(0, Math.min(rankedIds.size(), MAX_KEYWORD_HITS));
+        List<Task> tasks = top.isEmpty()
+                ? List.of()
+                : inRankOrder(taskRepository.findAllById(top), top, Task::getId);
+        return new SearchResults<>(tasks, MAX_KEYWORD_HITS, rankedIds.size() > MAX_KEYWORD_HITS);
+    }
+
+    // The index runs its own read-only transaction around the table scan
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rebuildSearchIndex() {
+        return searchIndex.rebuild();
+    }
+
+    private static <T> SearchResults<T> limited(List<T> results) {
+        return results.size() > MAX_KEYWORD_HITS
+                ? new SearchResults<>(List.copyOf(results.subList(0, MAX_KEYWORD_HITS)), MAX_KEYWORD_HITS, true)
+                : new SearchResults<>(results, MAX_KEYWORD_HITS, false);
+    }
+
+    private static <T> List<T> inRankOrder(List<T> results, List<Long> rankedIds, Function<T, Long> id) {
+        Map<Long, Integer> rank = new HashMap<>();
+        for (int i = 0; i < rankedIds.size(); i++) {
+            rank.put(rankedIds.get(i), i);
+        }
+        List<T> ordered = new ArrayList<>(results);
+        ordered.sort(Comparator.comparing(result -> rank.get(id.apply(result))));
+        return ordered;
     }
 
     public List<Task> findOverdueTasks() {
         return taskRepository.findOverdueTasks(LocalDate.now());
     }
 
+    // Served from the in-memory counters rather than a GROUP BY per call
     public Map<TaskStatus, Long> getTaskCountByStatus() {
-        return taskRepository.countByStatus().stream()
-                .collect(Collectors.toMap(
-                        row -> (TaskStatus) row[0],
-                        row -> (Long) row[1]
-                ));
+        return counters.countByStatus();
+    }
+
+    public Map<TaskPriority, Long> getTaskCountByPriority() {
+        return counters.countByPriority();
     }
 
     // Transaction propagation example
@@ -164,12 +407,20 @@ public class TaskService {
     @Transactional
     public int bulkUpdateStatus(TaskStatus oldStatus, TaskStatus newStatus) {
         log.info("Bulk updating tasks from {} to {}", oldStatus, newStatus);
-        return taskRepository.bulkUpdateStatus(oldStatus, newStatus);
+        Map<TaskPriority, Long> affected = taskRepository.countByPriorityForStatus(oldStatus).stream()
+                .collect(Collectors.toMap(
+                        row -> (TaskPriority) row[0],
+                        row -> (Long) row[1]
+                ));
+        int updated = taskRepository.bulkUpdateStatus(oldStatus, newStatus);
+        counters.movedAll(oldStatus, newStatus, affected);
+        return updated;
     }
 
     // Example with specific isolation level
-    @Transactional(isolation = Isolation.SERIALIZABLE, timeout = 30)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Task updateWithSerializableIsolation(Long id, UpdateTaskRequest request) {
-        return update(id, request);
+        return conflictRetrier.execute("update-serializable",
+                () -> serializableTransaction.execute(status -> applyUpdate(id, request, null)));
     }
 }
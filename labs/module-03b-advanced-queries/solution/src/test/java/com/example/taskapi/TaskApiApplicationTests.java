@@ -1,25 +1,100 @@
 package com.example.taskapi;
 
+import com.example.taskapi.advisor.IndexAdvisor;
+import com.example.taskapi.dto.BatchGetResponse;
+import com.example.taskapi.dto.BulkCreateResponse;
+import com.example.taskapi.dto.BulkJobStatus;
+import com.example.taskapi.dto.CreateTaskRequest;
+import com.example.taskapi.dto.CursorPage;
+import com.example.taskapi.dto.IndexRecommendation;
+import com.example.taskapi.dto.SearchResults;
+import com.example.taskapi.dto.TaskCursor;
+import com.example.taskapi.dto.TaskListVersion;
+import com.example.taskapi.dto.TaskSearchCriteria;
+import com.example.taskapi.dto.TaskSummary;
+import com.example.taskapi.dto.TaskVersion;
+import com.example.taskapi.dto.UpdateTaskRequest;
 import com.example.taskapi.entity.Task;
 import com.example.taskapi.entity.TaskPriority;
 import com.example.taskapi.entity.TaskStatus;
+import com.example.taskapi.exception.PreconditionFailedException;
 import com.example.taskapi.repository.TaskRepository;
+import com.example.taskapi.seed.SeedProperties;
+import com.example.taskapi.seed.TaskSeeder;
+import com.example.taskapi.service.BulkStatusUpdateService;
+import com.example.taskapi.service.TaskExportService;
+import com.example.taskapi.service.TaskService;
 import com.example.taskapi.specification.TaskSpecifications;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-@SpringBootTest
+@SpringBootTest(properties = {
+        "app.bulk.chunk-size=2",
+        "app.conflict-retry.max-attempts=50"
+})
 class TaskApiApplicationTests {
 
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskExportService taskExportService;
+
+    @Autowired
+    private BulkStatusUpdateService bulkStatusUpdateService;
+
+    @Autowired
+    private IndexAdvisor indexAdvisor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Test
     void contextLoads() {
     }
@@ -37,6 +112,75 @@ class TaskApiApplicationTests {
         });
     }
 
+    @Test
+    void summarySearchMatchesEntitySearch() {
+        TaskSearchCriteria criteria = new TaskSearchCriteria();
+        criteria.setStatus(TaskStatus.TODO);
+
+        List<TaskSummary> summaries = taskService.search(criteria).content();
+        assertEquals(taskRepository.findAll(TaskSpecifications.hasStatus(TaskStatus.TODO)).size(), summaries.size());
+        summaries.forEach(summary -> assertEquals(TaskStatus.TODO, summary.status()));
+
+        assertEquals(taskRepository.count(),
+                taskService.findSummaries(PageRequest.of(0, 5)).getTotalElements());
+    }
+
+    @Test
+    void cachedSearchShapesMatchSpecifications() {
+        TaskSearchCriteria urgentTodo = new TaskSearchCriteria();
+        urgentTodo.setStatus(TaskStatus.TODO);
+        urgentTodo.setPriority(TaskPriority.URGENT);
+        assertSameTasks(Specification.where(TaskSpecifications.hasStatus(TaskStatus.TODO))
+                .and(TaskSpecifications.hasPriority(TaskPriority.URGENT)), urgentTodo);
+
+        TaskSearchCriteria overdueForAlice = new TaskSearchCriteria();
+        overdueForAlice.setAssignee("alice");
+        overdueForAlice.setOverdue(true);
+        assertSameTasks(Specification.where(TaskSpecifications.assignedTo("alice"))
+                .and(TaskSpecifications.isOverdue()), overdueForAlice);
+
+        TaskSearchCriteria dueSoon = new TaskSearchCriteria();
+        dueSoon.setDueDateFrom(LocalDate.now());
+        dueSoon.setDueDateTo(LocalDate.now().plusDays(7));
+        dueSoon.setPriorities(List.of(TaskPriority.HIGH, TaskPriority.MEDIUM));
+        assertSameTasks(Specification.where(TaskSpecifications.dueDateBetween(LocalDate.now(), LocalDate.now().plusDays(7)))
+                .and(TaskSpecifications.priorityIn(List.of(TaskPriority.HIGH, TaskPriority.MEDIUM))), dueSoon);
+
+        double hits = queryCacheLookups("hit");
+        double misses = queryCacheLookups("miss");
+        double shapes = meterRegistry.get("tasks.search.query-cache.shapes").gauge().value();
+        urgentTodo.setStatus(TaskStatus.IN_PROGRESS);
+        taskService.search(urgentTodo);
+        assertEquals(hits + 1, queryCacheLookups("hit"));
+        assertEquals(misses, queryCacheLookups("miss"));
+        assertEquals(shapes, meterRegistry.get("tasks.search.query-cache.shapes").gauge().value());
+    }
+
+    @Test
+    void indexAdvisorCoversRepositoryQueries() {
+        indexAdvisor.reset();
+        taskRepository.findByStatusOrderByPriority(TaskStatus.TODO);
+        taskRepository.findOverdueTasks(LocalDate.now());
+        taskRepository.findByAssigneeAndPriorityIn("alice", List.of(TaskPriority.HIGH, TaskPriority.URGENT));
+        taskRepository.findPendingTasksByAssigneeNative("alice");
+        taskRepository.countByStatus();
+        taskRepository.countByStatusAndPriority();
+        taskRepository.countByPriorityForStatus(TaskStatus.TODO);
+        taskRepository.findIdsByStatusAfter(TaskStatus.TODO, 0, Limit.of(5));
+        taskService.findPage(TaskCursor.Order.PRIORITY, null, 3);
+        taskService.findPage(TaskCursor.Order.CREATED, null, 3);
+        assertEquals(List.of(), indexAdvisor.recommend());
+
+        TaskSearchCriteria criteria = new TaskSearchCriteria();
+        criteria.setAssignee("bob");
+        criteria.setDueDateFrom(LocalDate.now());
+        taskService.search(criteria);
+        List<IndexRecommendation> advice = indexAdvisor.recommend();
+        assertEquals(1, advice.size());
+        assertEquals(List.of("assignee", "due_date"), advice.get(0).columns());
+        assertEquals("CREATE INDEX idx_tasks_assignee_due_date ON tasks (assignee, due_date);", advice.get(0).ddl());
+    }
+
     @Test
     void jpqlQueryWorks() {
         List<Task> tasks = taskRepository.findByStatusOrderByPriority(TaskStatus.TODO);
@@ -44,9 +188,61 @@ class TaskApiApplicationTests {
     }
 
     @Test
-    void keywordSearchWorks() {
-        List<Task> tasks = taskRepository.searchByKeyword("documentation");
-        assertFalse(tasks.isEmpty());
+    void indexedKeywordSearchRanksAndTracksWrites() {
+        List<Task> hits = taskService.searchByKeyword("documentation").content();
+        assertFalse(hits.isEmpty());
+        assertTrue(hits.get(0).getTitle().toLowerCase().contains("documentation"));
+        assertFalse(taskService.searchByKeyword("doc").content().isEmpty());
+
+        CreateTaskRequest request = new CreateTaskRequest();
+        request.setTitle("Rotate zanzibar credentials");
+        Task created = taskService.create(request);
+        assertEquals(List.of(created.getId()),
+                taskService.searchByKeyword("zanzibar").content().stream().map(Task::getId).toList());
+
+        taskService.delete(created.getId());
+        assertTrue(taskService.searchByKeyword("zanzibar").content().isEmpty());
+        assertEquals(taskRepository.count(), taskService.rebuildSearchIndex());
+    }
+
+    @Test
+    void keywordSearchFiltersPastTheFirstThousandHits() {
+        List<CreateTaskRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            CreateTaskRequest request = new CreateTaskRequest();
+            // Title hits outrank description hits, so the filtered tasks rank last
+            if (i % 300 == 0) {
+                request.setTitle("Filtered task " + i);
+                request.setDescription("quokka");
+                request.setAssignee("quinn");
+            } else {
+                request.setTitle("Quokka census " + i);
+            }
+            requests.add(request);
+        }
+        List<Long> ids = taskService.createAll(requests).results().stream()
+                .map(BulkCreateResponse.Item::id)
+                .toList();
+        try {
+            TaskSearchCriteria criteria = new TaskSearchCriteria();
+            criteria.setKeyword("quokka");
+            criteria.setAssignee("quinn");
+            SearchResults<TaskSummary> filtered = taskService.search(criteria);
+            assertEquals(4, filtered.content().size());
+            assertFalse(filtered.truncated());
+            filtered.content().forEach(summary -> assertEquals("quinn", summary.assignee()));
+
+            criteria.setAssignee(null);
+            SearchResults<TaskSummary> all = taskService.search(criteria);
+            assertEquals(1000, all.content().size());
+            assertTrue(all.truncated());
+
+            SearchResults<Task> byKeyword = taskService.searchByKeyword("quokka");
+            assertEquals(1000, byKeyword.content().size());
+            assertTrue(byKeyword.truncated());
+        } finally {
+            ids.forEach(taskService::delete);
+        }
     }
 
     @Test
@@ -54,4 +250,261 @@ class TaskApiApplicationTests {
         List<Object[]> counts = taskRepository.countByStatus();
         assertFalse(counts.isEmpty());
     }
+
+    @Test
+    void statusCountersFollowWrites() {
+        assertEquals(databaseCountsByStatus(), taskService.getTaskCountByStatus());
+
+        CreateTaskRequest create = new CreateTaskRequest();
+        create.setTitle("Counter check");
+        Task task = taskService.create(create);
+        UpdateTaskRequest update = new UpdateTaskRequest();
+        update.setStatus(TaskStatus.IN_PROGRESS);
+        update.setPriority(TaskPriority.URGENT);
+        taskService.update(task.getId(), update);
+        assertEquals(databaseCountsByStatus(), taskService.getTaskCountByStatus());
+
+        taskService.bulkUpdateStatus(TaskStatus.IN_PROGRESS, TaskStatus.CANCELLED);
+        assertEquals(databaseCountsByStatus(), taskService.getTaskCountByStatus());
+        taskService.bulkUpdateStatus(TaskStatus.CANCELLED, TaskStatus.IN_PROGRESS);
+
+        taskService.delete(task.getId());
+        assertEquals(databaseCountsByStatus(), taskService.getTaskCountByStatus());
+    }
+
+    @Test
+    void bulkStatusJobUpdatesInChunksAndBumpsVersions() throws InterruptedException {
+        Map<Long, Long> versions = taskRepository.findAll(TaskSpecifications.hasStatus(TaskStatus.IN_PROGRESS)).stream()
+                .collect(Collectors.toMap(Task::getId, Task::getVersion));
+        assertFalse(versions.isEmpty());
+
+        BulkJobStatus job = awaitJob(bulkStatusUpdateService.start(TaskStatus.IN_PROGRESS, TaskStatus.CANCELLED));
+
+        assertEquals(BulkJobStatus.State.COMPLETED, job.state());
+        assertEquals(versions.size(), job.updated());
+        assertEquals(versions.size(), job.processed());
+        versions.forEach((id, version) -> {
+            Task task = taskRepository.findById(id).orElseThrow();
+            assertEquals(TaskStatus.CANCELLED, task.getStatus());
+            assertEquals(version + 1, task.getVersion());
+        });
+        assertEquals(databaseCountsByStatus(), taskService.getTaskCountByStatus());
+
+        awaitJob(bulkStatusUpdateService.start(TaskStatus.CANCELLED, TaskStatus.IN_PROGRESS));
+    }
+
+    @Test
+    void cursorPaginationVisitsEveryTaskOnce() {
+        List<Task> seen = walkCursorPages(TaskCursor.Order.CREATED, 3);
+
+        assertEquals(taskRepository.count(), seen.size());
+        assertEquals(seen.size(), new HashSet<>(seen.stream().map(Task::getId).toList()).size());
+        for (int i = 1; i < seen.size(); i++) {
+            assertFalse(seen.get(i).getCreatedAt().isAfter(seen.get(i - 1).getCreatedAt()));
+        }
+    }
+
+    @Test
+    void priorityCursorPaginationOrdersMostUrgentFirst() {
+        List<Task> seen = walkCursorPages(TaskCursor.Order.PRIORITY, 4);
+
+        assertEquals(taskRepository.count(), seen.size());
+        for (int i = 1; i < seen.size(); i++) {
+            assertTrue(seen.get(i).getPriority().compareTo(seen.get(i - 1).getPriority()) <= 0);
+        }
+    }
+
+    @Test
+    void exportWritesOneLinePerTask() throws IOException {
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        long exported = taskExportService.export(TaskExportService.Format.NDJSON, ndjson);
+
+        String[] lines = ndjson.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(taskRepository.count(), exported);
+        assertEquals(exported, lines.length);
+        for (String line : lines) {
+            assertTrue(line.startsWith("{") && line.endsWith("}"));
+        }
+
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        taskExportService.export(TaskExportService.Format.CSV, csv);
+        assertEquals(exported + 1, csv.toString(StandardCharsets.UTF_8).lines().count());
+    }
+
+    @Test
+    @Transactional
+    void bulkCreateReportsEachItem() {
+        List<CreateTaskRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            CreateTaskRequest request = new CreateTaskRequest();
+            request.setTitle(i == 7 ? "" : "Bulk task " + i);
+            requests.add(request);
+        }
+        long before = taskRepository.count();
+
+        BulkCreateResponse response = taskService.createAll(requests);
+
+        assertEquals(119, response.created());
+        assertEquals(1, response.failed());
+        assertEquals(requests.size(), response.results().size());
+        assertNull(response.results().get(7).id());
+        assertTrue(response.results().get(7).errors().containsKey("title"));
+        assertEquals(119, response.results().stream().map(BulkCreateResponse.Item::id)
+                .filter(Objects::nonNull).distinct().count());
+        assertEquals(before + 119, taskRepository.count());
+    }
+
+    @Test
+    void batchGetKeepsRequestOrderAndReportsMissingIds() {
+        List<Long> ids = new ArrayList<>(taskRepository.findAll().stream().map(Task::getId).toList());
+        Collections.reverse(ids);
+        List<Long> requested = new ArrayList<>(ids);
+        requested.add(1, -1L);
+        requested.add(ids.get(0));
+
+        BatchGetResponse response = taskService.findByIds(requested);
+
+        assertEquals(ids, response.tasks().stream().map(Task::getId).toList());
+        assertEquals(List.of(-1L), response.missing());
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.findByIds(Collections.nCopies(1001, 1L)));
+    }
+
+    @Test
+    void seederBulkLoadsTasksAndKeepsIdsAndCountersConsistent() {
+        long before = taskRepository.count();
+        SeedProperties properties = new SeedProperties();
+        properties.setRows(230);
+        properties.setBatchSize(100);
+        TaskSeeder seeder = new TaskSeeder(properties, dataSource, transactionManager, entityManagerFactory, eventPublisher);
+
+        assertEquals(230, seeder.seed());
+        assertEquals(before + 230, taskRepository.count());
+        assertTrue(databaseCountsByStatus().keySet().containsAll(List.of(TaskStatus.values())));
+        // the seeding event reconciles the in-memory counters with the new rows
+        assertEquals(databaseCountsByStatus(), taskService.getTaskCountByStatus());
+
+        // ids handed out by JPA afterwards must not collide with the seeded ones
+        CreateTaskRequest request = new CreateTaskRequest();
+        request.setTitle("After seeding");
+        Task created = taskService.create(request);
+        assertEquals(before + 231, taskRepository.count());
+        taskService.delete(created.getId());
+    }
+
+    @Test
+    void concurrentUpdatesAreRetriedUntilTheyApply() throws Exception {
+        CreateTaskRequest create = new CreateTaskRequest();
+        create.setTitle("Hot task");
+        Task task = taskService.create(create);
+        int writers = 4;
+        int updatesPerWriter = 5;
+        long attemptsBefore = completedUpdates();
+
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                int writer = w;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < updatesPerWriter; i++) {
+                        UpdateTaskRequest update = new UpdateTaskRequest();
+                        update.setDescription("writer " + writer + " update " + i);
+                        taskService.update(task.getId(), update);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Every update applied exactly once on top of the version it finally saw
+        Task updated = taskRepository.findById(task.getId()).orElseThrow();
+        assertEquals(task.getVersion() + writers * updatesPerWriter, updated.getVersion());
+        assertEquals(writers * updatesPerWriter, completedUpdates() - attemptsBefore);
+
+        // A client-supplied version is a precondition and is never retried past
+        UpdateTaskRequest stale = new UpdateTaskRequest();
+        stale.setTitle("Stale write");
+        assertThrows(PreconditionFailedException.class,
+                () -> taskService.update(task.getId(), stale, task.getVersion()));
+
+        taskService.delete(task.getId());
+    }
+
+    @Test
+    void eTagsFollowTaskVersionsAndListChanges() {
+        CreateTaskRequest create = new CreateTaskRequest();
+        create.setTitle("Tagged task");
+        Task task = taskService.create(create);
+        TaskVersion created = TaskVersion.of(task);
+        assertEquals(Optional.of(task.getVersion()), TaskVersion.versionOf(task.getId(), created.eTag()));
+        assertEquals(Optional.empty(), TaskVersion.versionOf(task.getId() + 1, created.eTag()));
+        assertEquals(Optional.empty(), TaskVersion.versionOf(task.getId(), "W/" + created.eTag()));
+
+        TaskListVersion before = taskService.findListVersion();
+        assertEquals(before, taskService.findListVersion());
+
+        UpdateTaskRequest update = new UpdateTaskRequest();
+        update.setTitle("Tagged task, renamed");
+        Task updated = taskService.update(task.getId(), update, task.getVersion());
+        assertNotEquals(created.eTag(), TaskVersion.of(updated).eTag());
+        TaskListVersion afterUpdate = taskService.findListVersion();
+        assertNotEquals(before.eTag(), afterUpdate.eTag());
+
+        taskService.delete(task.getId());
+        assertNotEquals(afterUpdate.eTag(), taskService.findListVersion().eTag());
+        // Writes within the same millisecond still produce a new tag
+        LocalDateTime instant = LocalDateTime.of(2024, 1, 1, 12, 0, 0, 1_000);
+        assertNotEquals(new TaskListVersion(3L, 7L, instant).eTag(),
+                new TaskListVersion(3L, 7L, instant.plusNanos(1_000)).eTag());
+        assertNotEquals(new TaskListVersion(3L, 7L, instant).eTag(),
+                new TaskListVersion(3L, 8L, instant).eTag());
+    }
+
+    private long completedUpdates() {
+        DistributionSummary attempts = meterRegistry.find("tasks.conflict.attempts").tag("operation", "update").summary();
+        return attempts == null ? 0 : attempts.count();
+    }
+
+    private double queryCacheLookups(String result) {
+        return meterRegistry.get("tasks.search.query-cache").tag("result", result).functionCounter().count();
+    }
+
+    private void assertSameTasks(Specification<Task> spec, TaskSearchCriteria criteria) {
+        List<Long> expected = taskRepository.findAll(spec).stream().map(Task::getId).sorted().toList();
+        List<Long> actual = taskService.search(criteria).content().stream().map(TaskSummary::id).sorted().toList();
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, actual);
+    }
+
+    private BulkJobStatus awaitJob(BulkJobStatus job) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            BulkJobStatus current = bulkStatusUpdateService.getJob(job.id()).orElseThrow();
+            if (current.finishedAt() != null) {
+                return current;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("Bulk job did not finish: " + job.id());
+    }
+
+    private Map<TaskStatus, Long> databaseCountsByStatus() {
+        return taskRepository.countByStatus().stream()
+                .collect(Collectors.toMap(row -> (TaskStatus) row[0], row -> (Long) row[1]));
+    }
+
+    private List<Task> walkCursorPages(TaskCursor.Order order, int size) {
+        List<Task> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<Task> page = taskService.findPage(order, cursor, size);
+            seen.addAll(page.content());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return seen;
+    }
 }
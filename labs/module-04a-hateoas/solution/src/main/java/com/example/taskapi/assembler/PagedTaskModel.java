@@ -0,0 +1,72 @@
+package com.example.taskapi.assembler;
+
+import com.example.taskapi.entity.Task;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.hateoas.RepresentationModel;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A page of tasks rendered in the same HAL shape as a {@code PagedModel<TaskResponse>},
+ * but without holding a TaskResponse for every task. Each task is turned into its
+ * representation, with its links, only when the serializer reaches it, and becomes
+ * garbage as soon as it has been written.
+ */
+@JsonPropertyOrder({"_embedded", "_links", "page"})
+public class PagedTaskModel extends RepresentationModel<PagedTaskModel> {
+
+    private final EmbeddedTasks embedded;
+    private final PagedModel.PageMetadata metadata;
+
+    PagedTaskModel(List<Task> tasks, TaskModelAssembler assembler, LinkRelation relation,
+                   PagedModel.PageMetadata metadata) {
+        // Like a PagedModel, an empty page has no _embedded section at all
+        this.embedded = tasks.isEmpty() ? null : new EmbeddedTasks(tasks, assembler, relation);
+        this.metadata = metadata;
+    }
+
+    @JsonProperty("_embedded")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public Object getEmbedded() {
+        return embedded;
+    }
+
+    @JsonProperty("page")
+    public PagedModel.PageMetadata getMetadata() {
+        return metadata;
+    }
+
+    /**
+     * Writes {@code {"<relation>": [task, ...]}} with the provider that is serializing
+     * the page, so every task goes through the same HAL serializers as before.
+     */
+    private record EmbeddedTasks(List<Task> tasks, TaskModelAssembler assembler, LinkRelation relation)
+            implements JsonSerializable {
+
+        @Override
+        public void serialize(JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(relation.value());
+            for (Task task : tasks) {
+                provider.defaultSerializeValue(assembler.toModel(task), generator);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+
+        @Override
+        public void serializeWithType(JsonGenerator generator, SerializerProvider provider, TypeSerializer typeSerializer)
+                throws IOException {
+            serialize(generator, provider);
+        }
+    }
+}
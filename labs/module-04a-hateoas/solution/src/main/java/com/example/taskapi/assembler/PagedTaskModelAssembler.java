@@ -0,0 +1,44 @@
+package com.example.taskapi.assembler;
+
+import com.example.taskapi.dto.TaskResponse;
+import com.example.taskapi.entity.Task;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.hateoas.server.LinkRelationProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Assembler to convert a Page of Task entities to a {@link PagedTaskModel}.
+ * Pagination links and page metadata come from the PagedResourcesAssembler as before;
+ * the tasks themselves are only assembled while the response is being written.
+ */
+@Component
+public class PagedTaskModelAssembler {
+
+    private final PagedResourcesAssembler<Task> pagedResourcesAssembler;
+    private final TaskModelAssembler taskModelAssembler;
+    private final LinkRelation collectionRelation;
+
+    public PagedTaskModelAssembler(PagedResourcesAssembler<Task> pagedResourcesAssembler,
+                                   TaskModelAssembler taskModelAssembler,
+                                   LinkRelationProvider linkRelationProvider) {
+        this.pagedResourcesAssembler = pagedResourcesAssembler;
+        this.taskModelAssembler = taskModelAssembler;
+        this.collectionRelation = linkRelationProvider.getCollectionResourceRelFor(TaskResponse.class);
+    }
+
+    public PagedTaskModel toModel(Page<Task> page) {
+        // Links and metadata depend only on the page's position and totals, so assemble
+        // them from the same page without its content
+        Page<Task> position = new PageImpl<>(List.of(), page.getPageable(), page.getTotalElements());
+        PagedModel<TaskResponse> envelope = pagedResourcesAssembler.toModel(position, taskModelAssembler);
+
+        return new PagedTaskModel(page.getContent(), taskModelAssembler, collectionRelation, envelope.getMetadata())
+                .add(envelope.getLinks());
+    }
+}
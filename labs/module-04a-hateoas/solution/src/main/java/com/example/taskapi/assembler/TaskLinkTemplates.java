@@ -0,0 +1,112 @@
+package com.example.taskapi.assembler;
+
+import com.example.taskapi.controller.TaskController;
+import com.example.taskapi.entity.TaskTransition;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
+
+/**
+ * Task links resolved once for one base URI.
+ * Each relation is built through {@code linkTo(methodOn(...))} a single time with a
+ * placeholder id; rendering a task's link afterwards only concatenates its id
+ * between the prefix and suffix around that placeholder.
+ */
+final class TaskLinkTemplates {
+
+    private static final long PLACEHOLDER_ID = Long.MIN_VALUE;
+    private static final String PLACEHOLDER = Long.toString(PLACEHOLDER_ID);
+
+    private static final LinkRelation TASKS = LinkRelation.of("tasks");
+    private static final LinkRelation START = LinkRelation.of("start");
+    private static final LinkRelation COMPLETE = LinkRelation.of("complete");
+    private static final LinkRelation CANCEL = LinkRelation.of("cancel");
+    private static final LinkRelation REOPEN = LinkRelation.of("reopen");
+    private static final LinkRelation UPDATE = LinkRelation.of("update");
+    private static final LinkRelation DELETE = LinkRelation.of("delete");
+
+    private final Template task;
+    private final String tasksHref;
+    private final Template start;
+    private final Template complete;
+    private final Template cancel;
+    private final Template reopen;
+    private final Template update;
+    private final Template delete;
+
+    /**
+     * Resolves every relation against the current request's base URI.
+     */
+    TaskLinkTemplates() {
+        this.task = template(linkTo(methodOn(TaskController.class).getTaskById(PLACEHOLDER_ID)).toUri().toString());
+        this.tasksHref = linkTo(methodOn(TaskController.class).getAllTasks(0, 10)).toUri().toString();
+        this.start = template(linkTo(methodOn(TaskController.class).startTask(PLACEHOLDER_ID)).toUri().toString());
+        this.complete = template(linkTo(methodOn(TaskController.class).completeTask(PLACEHOLDER_ID)).toUri().toString());
+        this.cancel = template(linkTo(methodOn(TaskController.class).cancelTask(PLACEHOLDER_ID)).toUri().toString());
+        this.reopen = template(linkTo(methodOn(TaskController.class).reopenTask(PLACEHOLDER_ID)).toUri().toString());
+        this.update = template(linkTo(methodOn(TaskController.class).updateTask(PLACEHOLDER_ID, null)).toUri().toString());
+        this.delete = template(linkTo(methodOn(TaskController.class).deleteTask(PLACEHOLDER_ID)).toUri().toString());
+    }
+
+    Link self(Long id) {
+        return task.expand(id, IanaLinkRelations.SELF);
+    }
+
+    Link tasks() {
+        return Link.of(tasksHref, TASKS);
+    }
+
+    Link tasksSelf() {
+        return Link.of(tasksHref, IanaLinkRelations.SELF);
+    }
+
+    Link start(Long id) {
+        return start.expand(id, START);
+    }
+
+    Link complete(Long id) {
+        return complete.expand(id, COMPLETE);
+    }
+
+    Link cancel(Long id) {
+        return cancel.expand(id, CANCEL);
+    }
+
+    Link reopen(Long id) {
+        return reopen.expand(id, REOPEN);
+    }
+
+    Link transition(TaskTransition transition, Long id) {
+        return switch (transition) {
+            case START -> start(id);
+            case COMPLETE -> complete(id);
+            case CANCEL -> cancel(id);
+            case REOPEN -> reopen(id);
+        };
+    }
+
+    Link update(Long id) {
+        return update.expand(id, UPDATE);
+    }
+
+    Link delete(Long id) {
+        return delete.expand(id, DELETE);
+    }
+
+    private static Template template(String href) {
+        int at = href.indexOf(PLACEHOLDER);
+        if (at < 0) {
+            throw new IllegalStateException("Task id placeholder missing from link " + href);
+        }
+        return new Template(href.substring(0, at), href.substring(at + PLACEHOLDER.length()));
+    }
+
+    private record Template(String prefix, String suffix) {
+
+        Link expand(Long id, LinkRelation rel) {
+            return Link.of(prefix + id + suffix, rel);
+        }
+    }
+}
@@ -3,22 +3,35 @@ package com.example.taskapi.assembler;
 import com.example.taskapi.controller.TaskController;
 import com.example.taskapi.dto.TaskResponse;
 import com.example.taskapi.entity.Task;
-import com.example.taskapi.entity.TaskStatus;
+import com.example.taskapi.entity.TaskTransition;
+import com.example.taskapi.service.TaskStateMachine;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.server.mvc.RepresentationModelAssemblerSupport;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Assembler to convert Task entities to TaskResponse DTOs with HATEOAS links.
  * Extends RepresentationModelAssemblerSupport for automatic collection handling.
+ * Links are expanded from {@link TaskLinkTemplates} rather than built per task.
  */
 @Component
 public class TaskModelAssembler extends RepresentationModelAssemblerSupport<Task, TaskResponse> {
 
-    public TaskModelAssembler() {
+    private static final String LINKS_ATTRIBUTE = TaskModelAssembler.class.getName() + ".links";
+    private static final int MAX_BASE_URIS = 64;
+
+    private final Map<String, TaskLinkTemplates> templatesByBaseUri = new ConcurrentHashMap<>();
+    private final TaskStateMachine stateMachine;
+
+    public TaskModelAssembler(TaskStateMachine stateMachine) {
         super(TaskController.class, TaskResponse.class);
+        this.stateMachine = stateMachine;
     }
 
     /**
@@ -38,72 +51,32 @@ public class TaskModelAssembler extends RepresentationModelAssemblerSupport<Task
                 task.getDueDate()
         );
 
+        TaskLinkTemplates links = links();
+
         // Self link - link to this specific task
-        taskResponse.add(linkTo(methodOn(TaskController.class)
-                .getTaskById(task.getId()))
-                .withSelfRel());
+        taskResponse.add(links.self(task.getId()));
 
         // Collection link - link to all tasks
-        taskResponse.add(linkTo(methodOn(TaskController.class)
-                .getAllTasks(0, 10))
-                .withRel("tasks"));
+        taskResponse.add(links.tasks());
 
         // Conditional links based on task status
-        addStatusBasedLinks(taskResponse, task);
+        addStatusBasedLinks(taskResponse, task, links);
 
         return taskResponse;
     }
 
     /**
      * Adds status-based conditional links to the task response.
-     * Different actions are available depending on the current task status.
+     * One link per transition the state machine allows from the current status.
      */
-    private void addStatusBasedLinks(TaskResponse taskResponse, Task task) {
-        TaskStatus status = task.getStatus();
-
-        switch (status) {
-            case CREATED:
-                // Can start or cancel a created task
-                taskResponse.add(linkTo(methodOn(TaskController.class)
-                        .startTask(task.getId()))
-                        .withRel("start"));
-                taskResponse.add(linkTo(methodOn(TaskController.class)
-                        .cancelTask(task.getId()))
-                        .withRel("cancel"));
-                break;
-
-            case IN_PROGRESS:
-                // Can complete or cancel an in-progress task
-                taskResponse.add(linkTo(methodOn(TaskController.class)
-                        .completeTask(task.getId()))
-                        .withRel("complete"));
-                taskResponse.add(linkTo(methodOn(TaskController.class)
-                        .cancelTask(task.getId()))
-                        .withRel("cancel"));
-                break;
-
-            case COMPLETED:
-                // Can reopen a completed task
-                taskResponse.add(linkTo(methodOn(TaskController.class)
-                        .reopenTask(task.getId()))
-                        .withRel("reopen"));
-                break;
-
-            case CANCELLED:
-                // Can reopen a cancelled task
-                taskResponse.add(linkTo(methodOn(TaskController.class)
-                        .reopenTask(task.getId()))
-                        .withRel("reopen"));
-                break;
+    private void addStatusBasedLinks(TaskResponse taskResponse, Task task, TaskLinkTemplates links) {
+        for (TaskTransition transition : stateMachine.transitionsFrom(task.getStatus())) {
+            taskResponse.add(links.transition(transition, task.getId()));
         }
 
         // Update and delete links are always available
-        taskResponse.add(linkTo(methodOn(TaskController.class)
-                .updateTask(task.getId(), null))
-                .withRel("update"));
-        taskResponse.add(linkTo(methodOn(TaskController.class)
-                .deleteTask(task.getId()))
-                .withRel("delete"));
+        taskResponse.add(links.update(task.getId()));
+        taskResponse.add(links.delete(task.getId()));
     }
 
     /**
@@ -114,10 +87,31 @@ public class TaskModelAssembler extends RepresentationModelAssemblerSupport<Task
         CollectionModel<TaskResponse> taskResponses = super.toCollectionModel(entities);
 
         // Add self link to the collection
-        taskResponses.add(linkTo(methodOn(TaskController.class)
-                .getAllTasks(0, 10))
-                .withSelfRel());
+        taskResponses.add(links().tasksSelf());
 
         return taskResponses;
     }
+
+    /**
+     * Link templates for the current request's base URI. They are resolved the first
+     * time a base URI is seen and looked up once per request after that. Outside a
+     * request there is nothing to cache them against, so they are resolved every time.
+     */
+    private TaskLinkTemplates links() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request == null) {
+            return new TaskLinkTemplates();
+        }
+        TaskLinkTemplates links = (TaskLinkTemplates) request.getAttribute(LINKS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (links == null) {
+            String baseUri = ServletUriComponentsBuilder.fromCurrentServletMapping().toUriString();
+            // The base URI follows the Host header, so keep a misbehaving client from growing the cache
+            if (templatesByBaseUri.size() >= MAX_BASE_URIS) {
+                templatesByBaseUri.clear();
+            }
+            links = templatesByBaseUri.computeIfAbsent(baseUri, base -> new TaskLinkTemplates());
+            request.setAttribute(LINKS_ATTRIBUTE, links, RequestAttributes.SCOPE_REQUEST);
+        }
+        return links;
+    }
 }
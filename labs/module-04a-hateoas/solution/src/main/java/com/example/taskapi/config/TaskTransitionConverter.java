@@ -0,0 +1,20 @@
+package com.example.taskapi.config;
+
+import com.example.taskapi.entity.TaskTransition;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * Binds transition names in request paths regardless of case,
+ * so {@code /transitions/start} and {@code /transitions/START} are the same endpoint.
+ */
+@Component
+public class TaskTransitionConverter implements Converter<String, TaskTransition> {
+
+    @Override
+    public TaskTransition convert(String source) {
+        return TaskTransition.valueOf(source.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -1,24 +1,28 @@
 package com.example.taskapi.controller;
 
+import com.example.taskapi.assembler.PagedTaskModel;
+import com.example.taskapi.assembler.PagedTaskModelAssembler;
 import com.example.taskapi.assembler.TaskModelAssembler;
+import com.example.taskapi.dto.BatchTransitionResponse;
 import com.example.taskapi.dto.CreateTaskRequest;
 import com.example.taskapi.dto.TaskResponse;
 import com.example.taskapi.dto.UpdateTaskRequest;
 import com.example.taskapi.entity.Task;
 import com.example.taskapi.entity.TaskPriority;
 import com.example.taskapi.entity.TaskStatus;
+import com.example.taskapi.entity.TaskTransition;
 import com.example.taskapi.service.TaskService;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.web.PagedResourcesAssembler;
-import org.springframework.hateoas.PagedModel;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
 
 /**
@@ -31,29 +35,30 @@ public class TaskController {
 
     private final TaskService taskService;
     private final TaskModelAssembler taskModelAssembler;
-    private final PagedResourcesAssembler<Task> pagedResourcesAssembler;
+    private final PagedTaskModelAssembler pagedTaskModelAssembler;
 
     public TaskController(TaskService taskService,
                           TaskModelAssembler taskModelAssembler,
-                          PagedResourcesAssembler<Task> pagedResourcesAssembler) {
+                          PagedTaskModelAssembler pagedTaskModelAssembler) {
         this.taskService = taskService;
         this.taskModelAssembler = taskModelAssembler;
-        this.pagedResourcesAssembler = pagedResourcesAssembler;
+        this.pagedTaskModelAssembler = pagedTaskModelAssembler;
     }
 
     /**
      * Get all tasks with pagination.
-     * Returns a PagedModel with navigation links (first, last, next, prev).
+     * Returns a paged HAL model with navigation links (first, last, next, prev);
+     * tasks are assembled one at a time while the response is written.
      */
     @GetMapping
-    public ResponseEntity<PagedModel<TaskResponse>> getAllTasks(
+    public ResponseEntity<PagedTaskModel> getAllTasks(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
 
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
         Page<Task> taskPage = taskService.getAllTasks(pageable);
 
-        PagedModel<TaskResponse> pagedModel = pagedResourcesAssembler.toModel(taskPage, taskModelAssembler);
+        PagedTaskModel pagedModel = pagedTaskModelAssembler.toModel(taskPage);
 
         return ResponseEntity.ok(pagedModel);
     }
@@ -62,7 +67,7 @@ public class TaskController {
      * Get tasks by status with pagination.
      */
     @GetMapping("/status/{status}")
-    public ResponseEntity<PagedModel<TaskResponse>> getTasksByStatus(
+    public ResponseEntity<PagedTaskModel> getTasksByStatus(
             @PathVariable TaskStatus status,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
@@ -70,7 +75,7 @@ public class TaskController {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
         Page<Task> taskPage = taskService.getTasksByStatus(status, pageable);
 
-        PagedModel<TaskResponse> pagedModel = pagedResourcesAssembler.toModel(taskPage, taskModelAssembler);
+        PagedTaskModel pagedModel = pagedTaskModelAssembler.toModel(taskPage);
 
         return ResponseEntity.ok(pagedModel);
     }
@@ -79,7 +84,7 @@ public class TaskController {
      * Get tasks by priority with pagination.
      */
     @GetMapping("/priority/{priority}")
-    public ResponseEntity<PagedModel<TaskResponse>> getTasksByPriority(
+    public ResponseEntity<PagedTaskModel> getTasksByPriority(
             @PathVariable TaskPriority priority,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
@@ -87,7 +92,7 @@ public class TaskController {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
         Page<Task> taskPage = taskService.getTasksByPriority(priority, pageable);
 
-        PagedModel<TaskResponse> pagedModel = pagedResourcesAssembler.toModel(taskPage, taskModelAssembler);
+        PagedTaskModel pagedModel = pagedTaskModelAssembler.toModel(taskPage);
 
         return ResponseEntity.ok(pagedModel);
     }
@@ -164,7 +169,7 @@ public class TaskController {
     }
 
     /**
-     * Cancel a task (any status except COMPLETED -> CANCELLED).
+     * Cancel a task (CREATED or IN_PROGRESS -> CANCELLED).
      */
     @PatchMapping("/{id}/cancel")
     public ResponseEntity<TaskResponse> cancelTask(@PathVariable Long id) {
@@ -184,4 +189,17 @@ public class TaskController {
 
         return ResponseEntity.ok(taskResponse);
     }
+
+    /**
+     * Apply one transition (start, complete, cancel or reopen) to many tasks at once.
+     * Returns a result per task; tasks the transition is not allowed from are rejected.
+     */
+    @PostMapping("/transitions/{transition}")
+    public ResponseEntity<BatchTransitionResponse> transitionTasks(
+            @PathVariable TaskTransition transition,
+            @RequestBody List<Long> ids) {
+        BatchTransitionResponse response = taskService.transitionTasks(transition, ids);
+
+        return ResponseEntity.ok(response);
+    }
 }
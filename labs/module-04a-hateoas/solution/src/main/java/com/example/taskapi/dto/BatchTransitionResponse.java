@@ -0,0 +1,39 @@
+package com.example.taskapi.dto;
+
+import com.example.taskapi.entity.TaskStatus;
+import com.example.taskapi.entity.TaskTransition;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * DTO for the outcome of applying one transition to many tasks.
+ * Results follow the order the ids were requested in, without duplicates.
+ */
+public record BatchTransitionResponse(TaskTransition transition, int applied, int rejected, List<Result> results) {
+
+    public enum Outcome {
+        APPLIED,
+        REJECTED,
+        NOT_FOUND
+    }
+
+    /**
+     * Outcome for one task; {@code status} is the task's status after the batch.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Result(Long id, Outcome outcome, TaskStatus status, String message) {
+
+        public static Result applied(Long id, TaskStatus status) {
+            return new Result(id, Outcome.APPLIED, status, null);
+        }
+
+        public static Result rejected(Long id, TaskStatus status, String message) {
+            return new Result(id, Outcome.REJECTED, status, message);
+        }
+
+        public static Result notFound(Long id) {
+            return new Result(id, Outcome.NOT_FOUND, null, "Task not found with id: " + id);
+        }
+    }
+}
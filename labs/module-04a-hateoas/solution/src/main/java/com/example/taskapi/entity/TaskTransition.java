@@ -0,0 +1,51 @@
+package com.example.taskapi.entity;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Enumeration of the status transitions a task can go through.
+ * Each transition names the statuses it may start from and the status it leads to;
+ * this table is the only place the task lifecycle is defined.
+ */
+public enum TaskTransition {
+    /**
+     * Start working on a task (CREATED -> IN_PROGRESS)
+     */
+    START(TaskStatus.IN_PROGRESS, EnumSet.of(TaskStatus.CREATED)),
+
+    /**
+     * Finish a task (IN_PROGRESS -> COMPLETED)
+     */
+    COMPLETE(TaskStatus.COMPLETED, EnumSet.of(TaskStatus.IN_PROGRESS)),
+
+    /**
+     * Abandon a task that is not finished (CREATED or IN_PROGRESS -> CANCELLED)
+     */
+    CANCEL(TaskStatus.CANCELLED, EnumSet.of(TaskStatus.CREATED, TaskStatus.IN_PROGRESS)),
+
+    /**
+     * Bring a finished task back (COMPLETED or CANCELLED -> CREATED)
+     */
+    REOPEN(TaskStatus.CREATED, EnumSet.of(TaskStatus.COMPLETED, TaskStatus.CANCELLED));
+
+    private final TaskStatus target;
+    private final Set<TaskStatus> sources;
+
+    TaskTransition(TaskStatus target, Set<TaskStatus> sources) {
+        this.target = target;
+        this.sources = sources;
+    }
+
+    public TaskStatus getTarget() {
+        return target;
+    }
+
+    public Set<TaskStatus> getSources() {
+        return EnumSet.copyOf(sources);
+    }
+
+    public boolean isAllowedFrom(TaskStatus status) {
+        return sources.contains(status);
+    }
+}
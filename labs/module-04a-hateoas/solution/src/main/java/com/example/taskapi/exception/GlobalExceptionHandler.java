@@ -51,6 +51,22 @@ public class GlobalExceptionHandler {
                 .body(problem);
     }
 
+    /**
+     * Handle IllegalArgumentException (invalid request parameters).
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Problem> handleIllegalArgumentException(IllegalArgumentException ex) {
+        Problem problem = Problem.create()
+                .withTitle("Bad Request")
+                .withStatus(HttpStatus.BAD_REQUEST)
+                .withDetail(ex.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .contentType(MediaTypes.HTTP_PROBLEM_DETAILS_JSON)
+                .body(problem);
+    }
+
     /**
      * Handle validation errors.
      */
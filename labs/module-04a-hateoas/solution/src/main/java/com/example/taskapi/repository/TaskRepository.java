@@ -6,9 +6,13 @@ import com.example.taskapi.entity.TaskStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -42,4 +46,30 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      * Find tasks with due date between two dates.
      */
     List<Task> findByDueDateBetween(LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Find the current status of each of the given tasks, as (id, status) rows.
+     */
+    @Query("SELECT t.id, t.status FROM Task t WHERE t.id IN :ids")
+    List<Object[]> findStatusesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Move every given task that is still in one of the source statuses to the target
+     * status in one statement. Bypasses @PreUpdate, so updatedAt is set here.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :target, t.updatedAt = :now WHERE t.id IN :ids AND t.status IN :sources")
+    int updateStatusWhereStatusIn(@Param("ids") Collection<Long> ids,
+                                  @Param("sources") Collection<TaskStatus> sources,
+                                  @Param("target") TaskStatus target,
+                                  @Param("now") LocalDateTime now);
+
+    /**
+     * Find which of the given tasks are in the status with exactly this updatedAt,
+     * i.e. were changed by the update that used it as its timestamp.
+     */
+    @Query("SELECT t.id FROM Task t WHERE t.id IN :ids AND t.status = :status AND t.updatedAt = :updatedAt")
+    List<Long> findIdsByStatusAndUpdatedAt(@Param("ids") Collection<Long> ids,
+                                           @Param("status") TaskStatus status,
+                                           @Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -1,10 +1,12 @@
 package com.example.taskapi.service;
 
+import com.example.taskapi.dto.BatchTransitionResponse;
 import com.example.taskapi.dto.CreateTaskRequest;
 import com.example.taskapi.dto.UpdateTaskRequest;
 import com.example.taskapi.entity.Task;
 import com.example.taskapi.entity.TaskPriority;
 import com.example.taskapi.entity.TaskStatus;
+import com.example.taskapi.entity.TaskTransition;
 import com.example.taskapi.exception.TaskNotFoundException;
 import com.example.taskapi.repository.TaskRepository;
 import org.springframework.data.domain.Page;
@@ -12,6 +14,18 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 /**
  * Service layer for Task business logic.
  * Handles CRUD operations and task status transitions.
@@ -20,10 +34,14 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class TaskService {
 
+    private static final int MAX_BATCH_TRANSITION_SIZE = 10_000;
+
     private final TaskRepository taskRepository;
+    private final TaskStateMachine stateMachine;
 
-    public TaskService(TaskRepository taskRepository) {
+    public TaskService(TaskRepository taskRepository, TaskStateMachine stateMachine) {
         this.taskRepository = taskRepository;
+        this.stateMachine = stateMachine;
     }
 
     /**
@@ -75,19 +93,20 @@ public class TaskService {
 
     /**
      * Update an existing task.
+     * A status change must follow a transition allowed from the current status.
      */
     public Task updateTask(Long id, UpdateTaskRequest request) {
         Task task = getTaskById(id);
 
+        if (request.getStatus() != null) {
+            stateMachine.moveTo(task, request.getStatus());
+        }
         if (request.getTitle() != null) {
             task.setTitle(request.getTitle());
         }
         if (request.getDescription() != null) {
             task.setDescription(request.getDescription());
         }
-        if (request.getStatus() != null) {
-            task.setStatus(request.getStatus());
-        }
         if (request.getPriority() != null) {
             task.setPriority(request.getPriority());
         }
@@ -110,47 +129,110 @@ public class TaskService {
      * Start a task (transition from CREATED to IN_PROGRESS).
      */
     public Task startTask(Long id) {
-        Task task = getTaskById(id);
-        if (task.getStatus() != TaskStatus.CREATED) {
-            throw new IllegalStateException("Task can only be started from CREATED status");
-        }
-        task.setStatus(TaskStatus.IN_PROGRESS);
-        return taskRepository.save(task);
+        return transitionTask(id, TaskTransition.START);
     }
 
     /**
      * Complete a task (transition from IN_PROGRESS to COMPLETED).
      */
     public Task completeTask(Long id) {
-        Task task = getTaskById(id);
-        if (task.getStatus() != TaskStatus.IN_PROGRESS) {
-            throw new IllegalStateException("Task can only be completed from IN_PROGRESS status");
-        }
-        task.setStatus(TaskStatus.COMPLETED);
-        return taskRepository.save(task);
+        return transitionTask(id, TaskTransition.COMPLETE);
     }
 
     /**
-     * Cancel a task (transition to CANCELLED).
+     * Cancel a task (transition from CREATED or IN_PROGRESS to CANCELLED).
      */
     public Task cancelTask(Long id) {
-        Task task = getTaskById(id);
-        if (task.getStatus() == TaskStatus.COMPLETED) {
-            throw new IllegalStateException("Cannot cancel a completed task");
-        }
-        task.setStatus(TaskStatus.CANCELLED);
-        return taskRepository.save(task);
+        return transitionTask(id, TaskTransition.CANCEL);
     }
 
     /**
      * Reopen a task (transition from COMPLETED or CANCELLED to CREATED).
      */
     public Task reopenTask(Long id) {
+        return transitionTask(id, TaskTransition.REOPEN);
+    }
+
+    /**
+     * Apply a transition to a single task.
+     */
+    public Task transitionTask(Long id, TaskTransition transition) {
         Task task = getTaskById(id);
-        if (task.getStatus() != TaskStatus.COMPLETED && task.getStatus() != TaskStatus.CANCELLED) {
-            throw new IllegalStateException("Task can only be reopened from COMPLETED or CANCELLED status");
-        }
-        task.setStatus(TaskStatus.CREATED);
+        stateMachine.apply(task, transition);
         return taskRepository.save(task);
     }
+
+    /**
+     * Apply one transition to many tasks.
+     * Current statuses are read with one query, and every task the transition is allowed
+     * from is updated with one set-based statement that re-checks the status, so a task
+     * changed by someone else in between is left alone and reported as rejected.
+     */
+    public BatchTransitionResponse transitionTasks(TaskTransition transition, List<Long> ids) {
+        List<Long> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        if (distinctIds.isEmpty() || distinctIds.size() > MAX_BATCH_TRANSITION_SIZE) {
+            throw new IllegalArgumentException(
+                    "Batch transitions accept between 1 and " + MAX_BATCH_TRANSITION_SIZE + " task ids");
+        }
+        Map<Long, TaskStatus> before = findStatuses(distinctIds);
+
+        Set<Long> candidates = distinctIds.stream()
+                .filter(id -> before.containsKey(id) && transition.isAllowedFrom(before.get(id)))
+                .collect(Collectors.toSet());
+        Set<Long> applied = new HashSet<>(candidates);
+        Map<Long, TaskStatus> after = new HashMap<>(before);
+        if (!candidates.isEmpty()) {
+            // Microseconds, so the stored timestamp compares equal when it is read back
+            LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+            int updated = taskRepository.updateStatusWhereStatusIn(
+                    candidates, transition.getSources(), transition.getTarget(), now);
+            candidates.forEach(id -> after.put(id, transition.getTarget()));
+
+            if (updated < candidates.size()) {
+                // Some tasks changed between the read and the update. Only rows carrying this
+                // statement's timestamp were moved by it; another writer may have moved the rest,
+                // even to the same target status.
+                Set<Long> changed = new HashSet<>(taskRepository.findIdsByStatusAndUpdatedAt(
+                        candidates, transition.getTarget(), now));
+                Map<Long, TaskStatus> current = findStatuses(candidates);
+                for (Long id : candidates) {
+                    TaskStatus status = current.get(id);
+                    if (!changed.contains(id)) {
+                        applied.remove(id);
+                    }
+                    if (status == null) {
+                        after.remove(id);
+                    } else {
+                        after.put(id, status);
+                    }
+                }
+            }
+        }
+
+        List<BatchTransitionResponse.Result> results = new ArrayList<>(distinctIds.size());
+        for (Long id : distinctIds) {
+            TaskStatus status = after.get(id);
+            if (status == null) {
+                results.add(BatchTransitionResponse.Result.notFound(id));
+            } else if (applied.contains(id)) {
+                results.add(BatchTransitionResponse.Result.applied(id, status));
+            } else if (candidates.contains(id)) {
+                results.add(BatchTransitionResponse.Result.rejected(id, status,
+                        "Task was modified concurrently. " + stateMachine.rejectionMessage(status, transition)));
+            } else {
+                results.add(BatchTransitionResponse.Result.rejected(id, status,
+                        stateMachine.rejectionMessage(status, transition)));
+            }
+        }
+
+        return new BatchTransitionResponse(transition, applied.size(), results.size() - applied.size(), results);
+    }
+
+    private Map<Long, TaskStatus> findStatuses(Collection<Long> ids) {
+        Map<Long, TaskStatus> statuses = new HashMap<>();
+        for (Object[] row : taskRepository.findStatusesByIdIn(ids)) {
+            statuses.put((Long) row[0], (TaskStatus) row[1]);
+        }
+        return statuses;
+    }
 }
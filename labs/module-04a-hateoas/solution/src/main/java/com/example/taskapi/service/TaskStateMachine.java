@@ -0,0 +1,84 @@
+package com.example.taskapi.service;
+
+import com.example.taskapi.entity.Task;
+import com.example.taskapi.entity.TaskStatus;
+import com.example.taskapi.entity.TaskTransition;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Task lifecycle driven by the {@link TaskTransition} table.
+ * The service applies transitions through it and the assembler asks it which
+ * transition links to offer, so both always agree on what is allowed.
+ */
+@Component
+public class TaskStateMachine {
+
+    private final Map<TaskStatus, Set<TaskTransition>> transitionsByStatus = new EnumMap<>(TaskStatus.class);
+
+    public TaskStateMachine() {
+        for (TaskStatus status : TaskStatus.values()) {
+            Set<TaskTransition> transitions = EnumSet.noneOf(TaskTransition.class);
+            for (TaskTransition transition : TaskTransition.values()) {
+                if (transition.isAllowedFrom(status)) {
+                    transitions.add(transition);
+                }
+            }
+            transitionsByStatus.put(status, Collections.unmodifiableSet(transitions));
+        }
+    }
+
+    /**
+     * Transitions available from the given status, in declaration order.
+     */
+    public Set<TaskTransition> transitionsFrom(TaskStatus status) {
+        return transitionsByStatus.get(status);
+    }
+
+    /**
+     * Moves the task to the transition's target status.
+     *
+     * @throws IllegalStateException if the transition is not allowed from the task's current status
+     */
+    public void apply(Task task, TaskTransition transition) {
+        if (!transition.isAllowedFrom(task.getStatus())) {
+            throw new IllegalStateException(rejectionMessage(task.getStatus(), transition));
+        }
+        task.setStatus(transition.getTarget());
+    }
+
+    /**
+     * Moves the task to the given status through the transition that leads there from
+     * its current status. Does nothing if the task already has that status.
+     *
+     * @throws IllegalStateException if no transition leads from the task's current status to the target
+     */
+    public void moveTo(Task task, TaskStatus target) {
+        TaskStatus status = task.getStatus();
+        if (status == target) {
+            return;
+        }
+        for (TaskTransition transition : transitionsFrom(status)) {
+            if (transition.getTarget() == target) {
+                task.setStatus(target);
+                return;
+            }
+        }
+        throw new IllegalStateException("Cannot move a task from " + status + " to " + target
+                + " status; allowed transitions are " + transitionsFrom(status));
+    }
+
+    /**
+     * Explains why the transition cannot be applied from the given status.
+     */
+    public String rejectionMessage(TaskStatus status, TaskTransition transition) {
+        return "Cannot " + transition.name().toLowerCase(Locale.ROOT) + " a task in " + status
+                + " status; allowed from " + transition.getSources();
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.taskapi.assembler;
+
+import com.example.taskapi.entity.Task;
+import com.example.taskapi.service.TaskService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.LinkRelationProvider;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A PagedTaskModel must render exactly what the PagedModel it replaced rendered.
+ */
+@SpringBootTest
+class PagedTaskModelTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private PagedTaskModelAssembler pagedTaskModelAssembler;
+
+    @Autowired
+    private PagedResourcesAssembler<Task> pagedResourcesAssembler;
+
+    @Autowired
+    private TaskModelAssembler taskModelAssembler;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private LinkRelationProvider linkRelationProvider;
+
+    private ObjectMapper halMapper;
+
+    @BeforeEach
+    void setUp() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+        request.setParameter("page", "1");
+        request.setParameter("size", "3");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        // Configured the way Spring HATEOAS sets up the mapper behind application/hal+json
+        halMapper = objectMapper.copy().registerModule(new Jackson2HalModule());
+        halMapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(
+                linkRelationProvider, CurieProvider.NONE, MessageResolver.DEFAULTS_ONLY));
+    }
+
+    @AfterEach
+    void clearRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void pageRendersLikePagedModel() throws Exception {
+        Page<Task> page = taskService.getAllTasks(PageRequest.of(1, 3, Sort.by("createdAt").descending()));
+        assertFalse(page.getContent().isEmpty());
+
+        JsonNode json = assertSameJson(page);
+        assertEquals(page.getNumberOfElements(), json.at("/_embedded/tasks").size());
+    }
+
+    @Test
+    void emptyPageRendersLikePagedModel() throws Exception {
+        Pageable pageable = PageRequest.of(1, 3, Sort.by("createdAt").descending());
+        Page<Task> page = new PageImpl<>(List.of(), pageable, 3);
+
+        JsonNode json = assertSameJson(page);
+        assertFalse(json.has("_embedded"));
+    }
+
+    private JsonNode assertSameJson(Page<Task> page) throws Exception {
+        String expected = halMapper.writeValueAsString(pagedResourcesAssembler.toModel(page, taskModelAssembler));
+        String actual = halMapper.writeValueAsString(pagedTaskModelAssembler.toModel(page));
+        assertEquals(expected, actual);
+        JsonNode json = halMapper.readTree(actual);
+        assertTrue(json.has("_links"));
+        return json;
+    }
+}
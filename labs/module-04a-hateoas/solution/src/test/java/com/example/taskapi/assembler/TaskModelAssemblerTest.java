@@ -0,0 +1,90 @@
+package com.example.taskapi.assembler;
+
+import com.example.taskapi.controller.TaskController;
+import com.example.taskapi.dto.TaskResponse;
+import com.example.taskapi.entity.Task;
+import com.example.taskapi.entity.TaskPriority;
+import com.example.taskapi.entity.TaskStatus;
+import com.example.taskapi.service.TaskStateMachine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.Link;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
+
+class TaskModelAssemblerTest {
+
+    private final TaskModelAssembler assembler = new TaskModelAssembler(new TaskStateMachine());
+
+    @AfterEach
+    void clearRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void linksMatchLinkBuilderWithinRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setServerName("tasks.example.com");
+        request.setServerPort(8443);
+        request.setScheme("https");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        for (TaskStatus status : TaskStatus.values()) {
+            Task task = task(42L, status);
+            assertEquals(expectedLinks(task), rendered(assembler.toModel(task).getLinks().toList()));
+        }
+    }
+
+    @Test
+    void linksMatchLinkBuilderOutsideRequest() {
+        assertNull(RequestContextHolder.getRequestAttributes());
+
+        for (TaskStatus status : TaskStatus.values()) {
+            Task task = task(7L, status);
+            assertEquals(expectedLinks(task), rendered(assembler.toModel(task).getLinks().toList()));
+        }
+        assertEquals(rendered(List.of(linkTo(methodOn(TaskController.class).getAllTasks(0, 10)).withSelfRel())),
+                rendered(assembler.toCollectionModel(List.of(task(7L, TaskStatus.CREATED))).getLinks().toList()));
+    }
+
+    // The links the assembler built with linkTo(methodOn(...)) per task before it used templates
+    private static List<Link> expectedLinks(Task task) {
+        Long id = task.getId();
+        List<Link> links = new ArrayList<>();
+        links.add(linkTo(methodOn(TaskController.class).getTaskById(id)).withSelfRel());
+        links.add(linkTo(methodOn(TaskController.class).getAllTasks(0, 10)).withRel("tasks"));
+        switch (task.getStatus()) {
+            case CREATED -> {
+                links.add(linkTo(methodOn(TaskController.class).startTask(id)).withRel("start"));
+                links.add(linkTo(methodOn(TaskController.class).cancelTask(id)).withRel("cancel"));
+            }
+            case IN_PROGRESS -> {
+                links.add(linkTo(methodOn(TaskController.class).completeTask(id)).withRel("complete"));
+                links.add(linkTo(methodOn(TaskController.class).cancelTask(id)).withRel("cancel"));
+            }
+            case COMPLETED, CANCELLED ->
+                links.add(linkTo(methodOn(TaskController.class).reopenTask(id)).withRel("reopen"));
+        }
+        links.add(linkTo(methodOn(TaskController.class).updateTask(id, null)).withRel("update"));
+        links.add(linkTo(methodOn(TaskController.class).deleteTask(id)).withRel("delete"));
+        return rendered(links);
+    }
+
+    // What HAL renders of each link; linkTo also attaches affordances, which HAL does not show
+    private static List<Link> rendered(List<Link> links) {
+        return links.stream().map(link -> Link.of(link.getHref(), link.getRel())).toList();
+    }
+
+    private static Task task(Long id, TaskStatus status) {
+        Task task = new Task("Write tests", "Cover the assembler", status, TaskPriority.MEDIUM);
+        task.setId(id);
+        return task;
+    }
+}
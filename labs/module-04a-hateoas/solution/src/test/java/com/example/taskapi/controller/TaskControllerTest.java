@@ -0,0 +1,95 @@
+package com.example.taskapi.controller;
+
+import com.example.taskapi.entity.Task;
+import com.example.taskapi.entity.TaskPriority;
+import com.example.taskapi.entity.TaskStatus;
+import com.example.taskapi.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class TaskControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void updateMovesStatusAlongAllowedTransition() throws Exception {
+        Task task = taskRepository.save(new Task("Write tests", null, TaskStatus.CREATED, TaskPriority.LOW));
+
+        mockMvc.perform(put("/api/tasks/{id}", task.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"IN_PROGRESS\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"));
+    }
+
+    @Test
+    void updateRejectsStatusChangeWithoutTransition() throws Exception {
+        Task task = taskRepository.save(new Task("Write tests", null, TaskStatus.CREATED, TaskPriority.LOW));
+
+        mockMvc.perform(put("/api/tasks/{id}", task.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Skip ahead\", \"status\": \"COMPLETED\"}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.title").value("Invalid State Transition"));
+
+        Task unchanged = taskRepository.findById(task.getId()).orElseThrow();
+        assertEquals(TaskStatus.CREATED, unchanged.getStatus());
+        assertEquals("Write tests", unchanged.getTitle());
+    }
+
+    @Test
+    void updateKeepingTheSameStatusIsAllowed() throws Exception {
+        Task task = taskRepository.save(new Task("Write tests", null, TaskStatus.COMPLETED, TaskPriority.LOW));
+
+        mockMvc.perform(put("/api/tasks/{id}", task.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Wrote tests\", \"status\": \"COMPLETED\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Wrote tests"));
+    }
+
+    @Test
+    void batchTransitionAcceptsLowerCasePath() throws Exception {
+        Task task = taskRepository.save(new Task("Write tests", null, TaskStatus.CREATED, TaskPriority.LOW));
+
+        mockMvc.perform(post("/api/tasks/transitions/start")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + task.getId() + "]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.applied").value(1))
+                .andExpect(jsonPath("$.results[0].outcome").value("APPLIED"));
+    }
+
+    @Test
+    void batchTransitionRejectsEmptyAndOversizedBatches() throws Exception {
+        String tooMany = LongStream.rangeClosed(1, 10_001)
+                .mapToObj(Long::toString)
+                .collect(Collectors.joining(",", "[", "]"));
+        for (String ids : new String[] {"[]", "[null]", tooMany}) {
+            mockMvc.perform(post("/api/tasks/transitions/START")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(ids))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.detail").value("Batch transitions accept between 1 and 10000 task ids"));
+        }
+    }
+}
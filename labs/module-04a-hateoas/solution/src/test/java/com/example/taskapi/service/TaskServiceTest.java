@@ -0,0 +1,140 @@
+package com.example.taskapi.service;
+
+import com.example.taskapi.dto.BatchTransitionResponse;
+import com.example.taskapi.dto.BatchTransitionResponse.Outcome;
+import com.example.taskapi.dto.BatchTransitionResponse.Result;
+import com.example.taskapi.entity.Task;
+import com.example.taskapi.entity.TaskPriority;
+import com.example.taskapi.entity.TaskStatus;
+import com.example.taskapi.entity.TaskTransition;
+import com.example.taskapi.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@Transactional
+class TaskServiceTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @MockitoSpyBean
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void batchReportsAppliedRejectedAndNotFound() {
+        Long created = save(TaskStatus.CREATED);
+        Long completed = save(TaskStatus.COMPLETED);
+        Long missing = Long.MAX_VALUE;
+
+        BatchTransitionResponse response = taskService.transitionTasks(TaskTransition.START,
+                List.of(created, completed, missing));
+
+        assertEquals(TaskTransition.START, response.transition());
+        assertEquals(1, response.applied());
+        assertEquals(2, response.rejected());
+        assertEquals(List.of(
+                Result.applied(created, TaskStatus.IN_PROGRESS),
+                Result.rejected(completed, TaskStatus.COMPLETED,
+                        "Cannot start a task in COMPLETED status; allowed from [CREATED]"),
+                Result.notFound(missing)), response.results());
+        assertEquals(TaskStatus.IN_PROGRESS, taskRepository.findById(created).orElseThrow().getStatus());
+        assertEquals(TaskStatus.COMPLETED, taskRepository.findById(completed).orElseThrow().getStatus());
+    }
+
+    @Test
+    void batchIgnoresDuplicateAndNullIds() {
+        Long first = save(TaskStatus.IN_PROGRESS);
+        Long second = save(TaskStatus.CREATED);
+
+        BatchTransitionResponse response = taskService.transitionTasks(TaskTransition.CANCEL,
+                Arrays.asList(second, null, first, second, null, first));
+
+        assertEquals(2, response.applied());
+        assertEquals(0, response.rejected());
+        assertEquals(List.of(second, first), response.results().stream().map(Result::id).toList());
+        assertTrue(response.results().stream().allMatch(result -> result.outcome() == Outcome.APPLIED));
+    }
+
+    @Test
+    void batchRejectsEmptyAndOversizedRequests() {
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.transitionTasks(TaskTransition.START, List.of()));
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.transitionTasks(TaskTransition.START, Arrays.asList(null, null)));
+        List<Long> tooMany = LongStream.rangeClosed(1, 10_001).boxed().toList();
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.transitionTasks(TaskTransition.START, tooMany));
+        verify(taskRepository, never()).updateStatusWhereStatusIn(any(), any(), any(), any());
+    }
+
+    @Test
+    void batchReportsTasksChangedBetweenReadAndUpdate() {
+        Long untouched = save(TaskStatus.CREATED);
+        Long cancelled = save(TaskStatus.CREATED);
+        Long startedElsewhere = save(TaskStatus.CREATED);
+        Long deleted = save(TaskStatus.CREATED);
+
+        // Other writers commit between the status read and the set-based update
+        // Spring spies on the repository proxy by delegating to it, so there is no real method to call
+        Answer<?> repository = mockingDetails(taskRepository).getMockCreationSettings().getDefaultAnswer();
+        doAnswer(invocation -> {
+            jdbcTemplate.update("UPDATE tasks SET status = 'CANCELLED' WHERE id = ?", cancelled);
+            jdbcTemplate.update("UPDATE tasks SET status = 'IN_PROGRESS', updated_at = ? WHERE id = ?",
+                    LocalDateTime.now().minusMinutes(1), startedElsewhere);
+            jdbcTemplate.update("DELETE FROM tasks WHERE id = ?", deleted);
+            return repository.answer(invocation);
+        }).when(taskRepository).updateStatusWhereStatusIn(any(), any(), any(), any());
+
+        BatchTransitionResponse response = taskService.transitionTasks(TaskTransition.START,
+                List.of(untouched, cancelled, startedElsewhere, deleted));
+
+        assertEquals(1, response.applied());
+        assertEquals(3, response.rejected());
+        List<Result> results = response.results();
+        assertEquals(Result.applied(untouched, TaskStatus.IN_PROGRESS), results.get(0));
+        assertRejectedConcurrently(results.get(1), cancelled, TaskStatus.CANCELLED);
+        assertRejectedConcurrently(results.get(2), startedElsewhere, TaskStatus.IN_PROGRESS);
+        assertEquals(Result.notFound(deleted), results.get(3));
+        verify(taskRepository).findIdsByStatusAndUpdatedAt(any(), eq(TaskStatus.IN_PROGRESS), any());
+    }
+
+    @Test
+    void batchSkipsConcurrencyCheckWhenEveryRowIsUpdated() {
+        Long first = save(TaskStatus.COMPLETED);
+        Long second = save(TaskStatus.CANCELLED);
+
+        BatchTransitionResponse response = taskService.transitionTasks(TaskTransition.REOPEN, List.of(first, second));
+
+        assertEquals(2, response.applied());
+        verify(taskRepository, never()).findIdsByStatusAndUpdatedAt(any(), any(), any());
+    }
+
+    private void assertRejectedConcurrently(Result result, Long id, TaskStatus status) {
+        assertEquals(id, result.id());
+        assertEquals(Outcome.REJECTED, result.outcome());
+        assertEquals(status, result.status());
+        assertTrue(result.message().startsWith("Task was modified concurrently."), result.message());
+    }
+
+    private Long save(TaskStatus status) {
+        return taskRepository.saveAndFlush(new Task("Batch task", null, status, TaskPriority.MEDIUM)).getId();
+    }
+}
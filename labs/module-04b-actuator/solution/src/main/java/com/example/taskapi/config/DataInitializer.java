@@ -10,6 +10,7 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.util.List;
 
 /**
  * Initializes the database with sample task data
@@ -111,16 +112,7 @@ public class DataInitializer implements CommandLineRunner {
         );
 
         // Save all tasks
-        taskRepository.save(task1);
-        taskRepository.save(task2);
-        taskRepository.save(task3);
-        taskRepository.save(task4);
-        taskRepository.save(task5);
-        taskRepository.save(task6);
-        taskRepository.save(task7);
-        taskRepository.save(task8);
-        taskRepository.save(task9);
-        taskRepository.save(task10);
+        taskRepository.saveAll(List.of(task1, task2, task3, task4, task5, task6, task7, task8, task9, task10));
 
         logger.info("Database initialized with {} tasks", taskRepository.count());
         logger.info("Sample data includes {} overdue tasks for health indicator testing",
@@ -1,13 +1,12 @@
 package com.example.taskapi.health;
 
 import com.example.taskapi.entity.TaskStatus;
-import com.example.taskapi.repository.TaskRepository;
+import com.example.taskapi.service.OverdueTasks;
+import com.example.taskapi.service.TaskCounters;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDate;
-
 /**
  * Custom health indicator for Task Service
  * Monitors the health of the task management system
@@ -15,24 +14,26 @@ import java.time.LocalDate;
 @Component
 public class TaskServiceHealthIndicator implements HealthIndicator {
 
-    private final TaskRepository taskRepository;
+    private final TaskCounters taskCounters;
+    private final OverdueTasks overdueTasks;
 
-    public TaskServiceHealthIndicator(TaskRepository taskRepository) {
-        this.taskRepository = taskRepository;
+    public TaskServiceHealthIndicator(TaskCounters taskCounters, OverdueTasks overdueTasks) {
+        this.taskCounters = taskCounters;
+        this.overdueTasks = overdueTasks;
     }
 
     @Override
     public Health health() {
         try {
-            // Get task counts by status
-            long todoCount = taskRepository.countByStatus(TaskStatus.TODO);
-            long inProgressCount = taskRepository.countByStatus(TaskStatus.IN_PROGRESS);
-            long completedCount = taskRepository.countByStatus(TaskStatus.COMPLETED);
-            long cancelledCount = taskRepository.countByStatus(TaskStatus.CANCELLED);
-            long totalTasks = taskRepository.count();
+            // Get task counts by status from the in-memory counters
+            long todoCount = taskCounters.count(TaskStatus.TODO);
+            long inProgressCount = taskCounters.count(TaskStatus.IN_PROGRESS);
+            long completedCount = taskCounters.count(TaskStatus.COMPLETED);
+            long cancelledCount = taskCounters.count(TaskStatus.CANCELLED);
+            long totalTasks = taskCounters.total();
 
-            // Get overdue tasks
-            long overdueCount = taskRepository.findOverdueTasks(LocalDate.now()).size();
+            // Get overdue tasks from the in-memory due-date index
+            long overdueCount = overdueTasks.count();
 
             // Build health status
             Health.Builder healthBuilder = Health.up();
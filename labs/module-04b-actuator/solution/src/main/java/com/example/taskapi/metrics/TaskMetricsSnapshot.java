@@ -0,0 +1,72 @@
+package com.example.taskapi.metrics;
+
+import com.example.taskapi.entity.TaskStatus;
+import com.example.taskapi.seed.TasksSeededEvent;
+import com.example.taskapi.service.OverdueTasks;
+import com.example.taskapi.service.TaskCounters;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Task aggregates for the gauges, copied into atomics on a schedule.
+ * A scrape only reads the atomics: it neither sums the counters nor takes the
+ * overdue index's lock, however many scrapers there are. {@code tasks.metrics.staleness}
+ * reports how long ago the values were last refreshed.
+ */
+@Component
+public class TaskMetricsSnapshot {
+
+    private final TaskCounters taskCounters;
+    private final OverdueTasks overdueTasks;
+
+    private final AtomicLong activeTasks = new AtomicLong();
+    private final AtomicLong overdueTaskCount = new AtomicLong();
+    private final AtomicLong refreshedAtMillis = new AtomicLong();
+
+    public TaskMetricsSnapshot(TaskCounters taskCounters, OverdueTasks overdueTasks, MeterRegistry meterRegistry) {
+        this.taskCounters = taskCounters;
+        this.overdueTasks = overdueTasks;
+
+        Gauge.builder("tasks.active", activeTasks, AtomicLong::get)
+                .description("Current active tasks (TODO + IN_PROGRESS)")
+                .register(meterRegistry);
+
+        Gauge.builder("tasks.overdue", overdueTaskCount, AtomicLong::get)
+                .description("Current overdue tasks")
+                .register(meterRegistry);
+
+        TimeGauge.builder("tasks.metrics.staleness", refreshedAtMillis, TimeUnit.MILLISECONDS, this::staleness)
+                .description("Time since the task gauges were last refreshed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Copy the current aggregates into the gauges. On startup and after seeding this
+     * runs last, after the counters and the overdue index have been reconciled.
+     */
+    @EventListener({ApplicationReadyEvent.class, TasksSeededEvent.class})
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @Scheduled(fixedDelayString = "${app.metrics.refresh-interval:15s}",
+               initialDelayString = "${app.metrics.refresh-interval:15s}")
+    public void refresh() {
+        activeTasks.set(taskCounters.count(TaskStatus.TODO) + taskCounters.count(TaskStatus.IN_PROGRESS));
+        overdueTaskCount.set(overdueTasks.count());
+        refreshedAtMillis.set(System.currentTimeMillis());
+    }
+
+    // NaN until the first refresh, so an unset snapshot doesn't look fresh or decades old
+    private double staleness(AtomicLong refreshedAt) {
+        long at = refreshedAt.get();
+        return at == 0 ? Double.NaN : System.currentTimeMillis() - at;
+    }
+}
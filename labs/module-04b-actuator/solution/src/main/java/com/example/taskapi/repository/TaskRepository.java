@@ -19,6 +19,13 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      */
     long countByStatus(TaskStatus status);
 
+    /**
+     * Count tasks grouped by status and priority
+     * @return rows of [status, priority, count]
+     */
+    @Query("SELECT t.status, t.priority, COUNT(t) FROM Task t GROUP BY t.status, t.priority")
+    List<Object[]> countByStatusAndPriority();
+
     /**
      * Find overdue tasks (due date before today and not completed)
      * @param today current date
@@ -26,4 +33,11 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      */
     @Query("SELECT t FROM Task t WHERE t.dueDate < :today AND t.status NOT IN ('COMPLETED', 'CANCELLED')")
     List<Task> findOverdueTasks(LocalDate today);
+
+    /**
+     * Due dates of open tasks (not completed or cancelled) that have one
+     * @return rows of [id, dueDate]
+     */
+    @Query("SELECT t.id, t.dueDate FROM Task t WHERE t.dueDate IS NOT NULL AND t.status NOT IN ('COMPLETED', 'CANCELLED')")
+    List<Object[]> findOpenTaskDueDates();
 }
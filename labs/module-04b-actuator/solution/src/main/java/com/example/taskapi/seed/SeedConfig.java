@@ -0,0 +1,24 @@
+package com.example.taskapi.seed;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+
+@Configuration
+@EnableConfigurationProperties(SeedProperties.class)
+@ConditionalOnProperty(prefix = "app.seed", name = "enabled", havingValue = "true")
+public class SeedConfig {
+
+    @Bean
+    public TaskSeeder taskSeeder(SeedProperties properties,
+                                 DataSource dataSource,
+                                 PlatformTransactionManager transactionManager,
+                                 ApplicationEventPublisher events) {
+        return new TaskSeeder(properties, dataSource, transactionManager, events);
+    }
+}
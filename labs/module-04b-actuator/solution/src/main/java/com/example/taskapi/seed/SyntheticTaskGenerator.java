@@ -0,0 +1,98 @@
+package com.example.taskapi.seed;
+
+import com.example.taskapi.entity.Task;
+import com.example.taskapi.entity.TaskPriority;
+import com.example.taskapi.entity.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+
+/**
+ * Generates tasks shaped like real usage: most tasks are recent and older ones are
+ * mostly closed, priorities lean towards MEDIUM and about a quarter of tasks have no
+ * due date. The same seed always yields the same sequence of tasks.
+ */
+public class SyntheticTaskGenerator {
+
+    private static final String[] VERBS = {
+            "Fix", "Review", "Update", "Write", "Refactor", "Investigate",
+            "Deploy", "Document", "Test", "Migrate", "Optimize", "Design"
+    };
+    private static final String[] SUBJECTS = {
+            "login flow", "payment service", "search index", "user profile page", "nightly export",
+            "API rate limits", "database schema", "release notes", "CI pipeline", "notification emails",
+            "audit log", "caching layer", "onboarding guide", "error handling", "dashboard widgets"
+    };
+    private static final String[] DESCRIPTIONS = {
+            "Reported by customer support", "Blocking the next release", "Raised in code review",
+            "Part of the quarterly roadmap", "Needs sign-off from the team lead", "Follow-up from the last incident"
+    };
+
+    private static final TaskStatus[] OPEN_STATUSES = {TaskStatus.TODO, TaskStatus.IN_PROGRESS};
+    private static final TaskPriority[] PRIORITIES = {
+            TaskPriority.LOW, TaskPriority.MEDIUM, TaskPriority.HIGH, TaskPriority.CRITICAL
+    };
+    private static final int[] PRIORITY_WEIGHTS = {25, 45, 22, 8};
+
+    private static final long MINUTES_PER_DAY = 24 * 60;
+    private static final double MEAN_AGE_DAYS = 60;
+    private static final long MAX_AGE_MINUTES = 730 * MINUTES_PER_DAY;
+
+    private final SplittableRandom random;
+    private final LocalDateTime now;
+
+    public SyntheticTaskGenerator(long seed, LocalDateTime now) {
+        this.random = new SplittableRandom(seed);
+        this.now = now;
+    }
+
+    /**
+     * A new, unsaved task with every column filled in, including the timestamps.
+     */
+    public Task next() {
+        // Ages are exponentially distributed: plenty of recent tasks, a long tail of old ones
+        long ageMinutes = Math.min((long) (-Math.log(1 - random.nextDouble()) * MEAN_AGE_DAYS * MINUTES_PER_DAY),
+                MAX_AGE_MINUTES);
+        LocalDateTime createdAt = now.minusMinutes(ageMinutes);
+
+        Task task = new Task();
+        task.setTitle(VERBS[random.nextInt(VERBS.length)] + " " + SUBJECTS[random.nextInt(SUBJECTS.length)]);
+        task.setDescription(percent(65) ? DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)] : null);
+        task.setStatus(status(ageMinutes / MINUTES_PER_DAY));
+        task.setPriority(PRIORITIES[weighted(PRIORITY_WEIGHTS)]);
+        if (percent(75)) {
+            task.setDueDate(createdAt.toLocalDate().plusDays(1 + random.nextInt(45)));
+        }
+        task.setCreatedAt(createdAt);
+        task.setUpdatedAt(createdAt.plusMinutes(random.nextLong(ageMinutes + 1)));
+        return task;
+    }
+
+    // The older a task, the more likely it has been completed or cancelled
+    private TaskStatus status(long ageDays) {
+        double closed = Math.min(0.15 + ageDays / 120.0, 0.9);
+        if (random.nextDouble() < closed) {
+            return percent(88) ? TaskStatus.COMPLETED : TaskStatus.CANCELLED;
+        }
+        return OPEN_STATUSES[random.nextInt(OPEN_STATUSES.length)];
+    }
+
+    private int weighted(int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int pick = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            pick -= weights[i];
+            if (pick < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private boolean percent(int chance) {
+        return random.nextInt(100) < chance;
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.taskapi.service;
+
+import com.example.taskapi.entity.TaskStatus;
+import com.example.taskapi.repository.TaskRepository;
+import com.example.taskapi.seed.TasksSeededEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static com.example.taskapi.service.TransactionHooks.afterCommit;
+
+/**
+ * In-memory due-date index of open tasks, so the overdue gauge, health check and
+ * list read the overdue set instead of scanning the table on every call.
+ * Open tasks not yet due wait in a map sorted by due date; once the date rolls over
+ * the buckets that have passed move into the overdue set. Service writes update the
+ * index after their transaction commits; it is reloaded from the database at startup
+ * and periodically to correct drift. Changes committed while a reload reads the
+ * database are recorded and replayed onto the reloaded index.
+ */
+@Component
+public class OverdueTasks {
+
+    private static final Logger logger = LoggerFactory.getLogger(OverdueTasks.class);
+
+    private final TaskRepository taskRepository;
+
+    // Guarded by this
+    private final Map<Long, LocalDate> dueDates = new HashMap<>();
+    private final TreeMap<LocalDate, Set<Long>> upcoming = new TreeMap<>();
+    private final Set<Long> overdue = new TreeSet<>();
+    private LocalDate today = LocalDate.now();
+    // Non-null while reconcile() is reading the database
+    private List<Runnable> changesDuringReconcile;
+
+    public OverdueTasks(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    /**
+     * Record a created or updated task
+     */
+    public void tracked(Long id, TaskStatus status, LocalDate dueDate) {
+        afterCommit(() -> {
+            synchronized (this) {
+                advance();
+                track(id, status, dueDate);
+                if (changesDuringReconcile != null) {
+                    changesDuringReconcile.add(() -> track(id, status, dueDate));
+                }
+            }
+        });
+    }
+
+    /**
+     * Record a deleted task
+     */
+    public void removed(Long id) {
+        afterCommit(() -> {
+            synchronized (this) {
+                remove(id);
+                if (changesDuringReconcile != null) {
+                    changesDuringReconcile.add(() -> remove(id));
+                }
+            }
+        });
+    }
+
+    /**
+     * Number of overdue tasks
+     */
+    public synchronized int count() {
+        advance();
+        return overdue.size();
+    }
+
+    /**
+     * Ids of the overdue tasks in ascending order
+     */
+    public synchronized List<Long> ids() {
+        advance();
+        return new ArrayList<>(overdue);
+    }
+
+    /**
+     * Reload the index from the database
+     */
+    @EventListener({ApplicationReadyEvent.class, TasksSeededEvent.class})
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Scheduled(fixedDelayString = "${app.overdue.reconcile-interval:5m}",
+               initialDelayString = "${app.overdue.reconcile-interval:5m}")
+    public void reconcile() {
+        synchronized (this) {
+            if (changesDuringReconcile != null) {
+                logger.debug("Overdue task reconcile already running, skipping");
+                return;
+            }
+            changesDuringReconcile = new ArrayList<>();
+        }
+
+        List<Object[]> rows = null;
+        try {
+            rows = taskRepository.findOpenTaskDueDates();
+        } finally {
+            synchronized (this) {
+                List<Runnable> pending = changesDuringReconcile;
+                changesDuringReconcile = null;
+                if (rows != null) {
+                    Set<Long> before = new HashSet<>(overdue);
+                    dueDates.clear();
+                    upcoming.clear();
+                    overdue.clear();
+                    today = LocalDate.now();
+                    for (Object[] row : rows) {
+                        add((Long) row[0], (LocalDate) row[1]);
+                    }
+                    pending.forEach(Runnable::run);
+                    if (!before.equals(overdue)) {
+                        logger.info("Reconciled overdue tasks, {} now overdue", overdue.size());
+                    }
+                }
+            }
+        }
+    }
+
+    // Moves every bucket whose due date has passed into the overdue set
+    private void advance() {
+        LocalDate now = LocalDate.now();
+        if (now.equals(today)) {
+            return;
+        }
+        today = now;
+        SortedMap<LocalDate, Set<Long>> passed = upcoming.headMap(now);
+        passed.values().forEach(overdue::addAll);
+        passed.clear();
+    }
+
+    private void track(Long id, TaskStatus status, LocalDate dueDate) {
+        remove(id);
+        if (isOpen(status) && dueDate != null) {
+            add(id, dueDate);
+        }
+    }
+
+    private void add(Long id, LocalDate dueDate) {
+        dueDates.put(id, dueDate);
+        if (dueDate.isBefore(today)) {
+            overdue.add(id);
+        } else {
+            upcoming.computeIfAbsent(dueDate, date -> new HashSet<>()).add(id);
+        }
+    }
+
+    private void remove(Long id) {
+        LocalDate dueDate = dueDates.remove(id);
+        if (dueDate == null || overdue.remove(id)) {
+            return;
+        }
+        Set<Long> bucket = upcoming.get(dueDate);
+        bucket.remove(id);
+        if (bucket.isEmpty()) {
+            upcoming.remove(dueDate);
+        }
+    }
+
+    private static boolean isOpen(TaskStatus status) {
+        return status != TaskStatus.COMPLETED && status != TaskStatus.CANCELLED;
+    }
+}
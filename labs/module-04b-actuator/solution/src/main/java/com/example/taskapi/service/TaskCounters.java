@@ -0,0 +1,165 @@
+package com.example.taskapi.service;
+
+import com.example.taskapi.entity.TaskPriority;
+import com.example.taskapi.entity.TaskStatus;
+import com.example.taskapi.repository.TaskRepository;
+import com.example.taskapi.seed.TasksSeededEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.example.taskapi.service.TransactionHooks.afterCommit;
+
+/**
+ * In-memory task counts per status and priority, so gauges and health checks
+ * read them in O(1) instead of querying on every scrape.
+ * Service writes adjust the counts after their transaction commits; the counts
+ * are reloaded from the database at startup and periodically to correct drift.
+ * Changes committed while a reload reads the database are recorded and added on
+ * top of what it read, so the reload never discards them.
+ */
+@Component
+public class TaskCounters {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskCounters.class);
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+
+    private final TaskRepository taskRepository;
+    private final LongAdder[][] counts = new LongAdder[STATUSES.length][PRIORITIES.length];
+
+    // Guarded by this; non-null while reconcile() is reading the database
+    private long[][] changesDuringReconcile;
+    private volatile boolean reconciling;
+
+    public TaskCounters(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+        for (LongAdder[] row : counts) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] = new LongAdder();
+            }
+        }
+    }
+
+    /**
+     * Record a created task
+     */
+    public void added(TaskStatus status, TaskPriority priority) {
+        afterCommit(() -> change(status, priority, 1));
+    }
+
+    /**
+     * Record a deleted task
+     */
+    public void removed(TaskStatus status, TaskPriority priority) {
+        afterCommit(() -> change(status, priority, -1));
+    }
+
+    /**
+     * Record a task whose status or priority changed
+     */
+    public void moved(TaskStatus fromStatus, TaskPriority fromPriority, TaskStatus toStatus, TaskPriority toPriority) {
+        if (fromStatus == toStatus && fromPriority == toPriority) {
+            return;
+        }
+        afterCommit(() -> {
+            change(fromStatus, fromPriority, -1);
+            change(toStatus, toPriority, 1);
+        });
+    }
+
+    /**
+     * Number of tasks with the given status
+     */
+    public long count(TaskStatus status) {
+        long total = 0;
+        for (LongAdder cell : counts[status.ordinal()]) {
+            total += cell.sum();
+        }
+        return total;
+    }
+
+    /**
+     * Total number of tasks
+     */
+    public long total() {
+        long total = 0;
+        for (TaskStatus status : STATUSES) {
+            total += count(status);
+        }
+        return total;
+    }
+
+    /**
+     * Reload the counts from the database
+     */
+    @EventListener({ApplicationReadyEvent.class, TasksSeededEvent.class})
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Scheduled(fixedDelayString = "${app.counters.reconcile-interval:5m}",
+               initialDelayString = "${app.counters.reconcile-interval:5m}")
+    public void reconcile() {
+        synchronized (this) {
+            if (changesDuringReconcile != null) {
+                logger.debug("Task counter reconcile already running, skipping");
+                return;
+            }
+            changesDuringReconcile = new long[STATUSES.length][PRIORITIES.length];
+            reconciling = true;
+        }
+
+        long[][] actual = new long[STATUSES.length][PRIORITIES.length];
+        boolean complete = false;
+        long drift = 0;
+        try {
+            for (Object[] row : taskRepository.countByStatusAndPriority()) {
+                actual[((TaskStatus) row[0]).ordinal()][((TaskPriority) row[1]).ordinal()] = (Long) row[2];
+            }
+            complete = true;
+        } finally {
+            synchronized (this) {
+                long[][] pending = changesDuringReconcile;
+                changesDuringReconcile = null;
+                reconciling = false;
+                if (complete) {
+                    for (int s = 0; s < STATUSES.length; s++) {
+                        for (int p = 0; p < PRIORITIES.length; p++) {
+                            long delta = actual[s][p] + pending[s][p] - counts[s][p].sum();
+                            if (delta != 0) {
+                                counts[s][p].add(delta);
+                                drift += Math.abs(delta);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        if (drift > 0) {
+            logger.info("Reconciled task counters, corrected drift of {}", drift);
+        }
+    }
+
+    // Lock-free unless a reconcile is running, when the change is also recorded for it
+    private void change(TaskStatus status, TaskPriority priority, long delta) {
+        if (!reconciling) {
+            cell(status, priority).add(delta);
+            return;
+        }
+        synchronized (this) {
+            cell(status, priority).add(delta);
+            if (changesDuringReconcile != null) {
+                changesDuringReconcile[status.ordinal()][priority.ordinal()] += delta;
+            }
+        }
+    }
+
+    private LongAdder cell(TaskStatus status, TaskPriority priority) {
+        return counts[status.ordinal()][priority.ordinal()];
+    }
+}
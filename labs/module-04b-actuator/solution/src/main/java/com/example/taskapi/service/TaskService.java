@@ -3,6 +3,7 @@ package com.example.taskapi.service;
 import com.example.taskapi.dto.CreateTaskRequest;
 import com.example.taskapi.dto.UpdateTaskRequest;
 import com.example.taskapi.entity.Task;
+import com.example.taskapi.entity.TaskPriority;
 import com.example.taskapi.entity.TaskStatus;
 import com.example.taskapi.exception.TaskNotFoundException;
 import com.example.taskapi.repository.TaskRepository;
@@ -14,7 +15,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -26,6 +26,8 @@ public class TaskService {
     private static final Logger logger = LoggerFactory.getLogger(TaskService.class);
 
     private final TaskRepository taskRepository;
+    private final TaskCounters taskCounters;
+    private final OverdueTasks overdueTasks;
     private final MeterRegistry meterRegistry;
 
     // Counters for task operations
@@ -36,8 +38,11 @@ public class TaskService {
     // Timer for task creation
     private final Timer taskCreationTimer;
 
-    public TaskService(TaskRepository taskRepository, MeterRegistry meterRegistry) {
+    public TaskService(TaskRepository taskRepository, TaskCounters taskCounters,
+                       OverdueTasks overdueTasks, MeterRegistry meterRegistry) {
         this.taskRepository = taskRepository;
+        this.taskCounters = taskCounters;
+        this.overdueTasks = overdueTasks;
         this.meterRegistry = meterRegistry;
 
         // Initialize counters
@@ -62,16 +67,7 @@ public class TaskService {
                 .tag("service", "task-api")
                 .register(meterRegistry);
 
-        // Register gauges for active tasks and overdue tasks
-        meterRegistry.gauge("tasks.active", this, service -> {
-            long todo = taskRepository.countByStatus(TaskStatus.TODO);
-            long inProgress = taskRepository.countByStatus(TaskStatus.IN_PROGRESS);
-            return todo + inProgress;
-        });
-
-        meterRegistry.gauge("tasks.overdue", this, service ->
-                taskRepository.findOverdueTasks(LocalDate.now()).size()
-        );
+        // Gauges for active and overdue tasks are registered by TaskMetricsSnapshot
     }
 
     /**
@@ -107,6 +103,8 @@ public class TaskService {
             task.setDueDate(request.getDueDate());
 
             Task savedTask = taskRepository.save(task);
+            taskCounters.added(savedTask.getStatus(), savedTask.getPriority());
+            overdueTasks.tracked(savedTask.getId(), savedTask.getStatus(), savedTask.getDueDate());
 
             // Increment counter
             tasksCreatedCounter.increment();
@@ -127,6 +125,7 @@ public class TaskService {
                 .orElseThrow(() -> new TaskNotFoundException(id));
 
         TaskStatus oldStatus = task.getStatus();
+        TaskPriority oldPriority = task.getPriority();
 
         // Update fields if provided
         if (request.getTitle() != null) {
@@ -146,6 +145,8 @@ public class TaskService {
         }
 
         Task updatedTask = taskRepository.save(task);
+        taskCounters.moved(oldStatus, oldPriority, updatedTask.getStatus(), updatedTask.getPriority());
+        overdueTasks.tracked(id, updatedTask.getStatus(), updatedTask.getDueDate());
 
         // Increment completed counter if status changed to COMPLETED
         if (oldStatus != TaskStatus.COMPLETED && updatedTask.getStatus() == TaskStatus.COMPLETED) {
@@ -164,11 +165,12 @@ public class TaskService {
     public void deleteTask(Long id) {
         logger.info("Deleting task with id: {}", id);
 
-        if (!taskRepository.existsById(id)) {
-            throw new TaskNotFoundException(id);
-        }
+        Task task = taskRepository.findById(id)
+                .orElseThrow(() -> new TaskNotFoundException(id));
 
-        taskRepository.deleteById(id);
+        taskRepository.delete(task);
+        taskCounters.removed(task.getStatus(), task.getPriority());
+        overdueTasks.removed(id);
         tasksDeletedCounter.increment();
 
         logger.info("Task deleted successfully: {}", id);
@@ -178,13 +180,13 @@ public class TaskService {
      * Get tasks by status
      */
     public long getTaskCountByStatus(TaskStatus status) {
-        return taskRepository.countByStatus(status);
+        return taskCounters.count(status);
     }
 
     /**
      * Get overdue tasks
      */
     public List<Task> getOverdueTasks() {
-        return taskRepository.findOverdueTasks(LocalDate.now());
+        return taskRepository.findAllById(overdueTasks.ids());
     }
 }
@@ -0,0 +1,77 @@
+package com.example.taskapi.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.function.BiFunction;
+
+/**
+ * Second-level cache for tasks and users on a local Caffeine heap cache.
+ * Entity and query result regions are bounded by size and expire after a TTL;
+ * the update-timestamps region is left unbounded so cached queries are always
+ * invalidated when the tables they read are written.
+ */
+@Configuration
+public class CacheConfig {
+
+    public static final String TASKS_REGION = "tasks";
+    public static final String USERS_REGION = "users";
+
+    private static final String QUERY_RESULTS_REGION = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(@Value("${app.cache.maximum-size:10000}") long maximumSize,
+                                              @Value("${app.cache.time-to-live:10m}") Duration timeToLive) {
+        CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager();
+        for (String region : new String[] {TASKS_REGION, USERS_REGION, QUERY_RESULTS_REGION}) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maximumSize));
+            configuration.setExpireAfterWrite(OptionalLong.of(timeToLive.toNanos()));
+            cacheManager.createCache(region, configuration);
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    @Bean
+    public MeterBinder hibernateCacheHitRatios(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return registry -> {
+            hitRatio(registry, TASKS_REGION, statistics, Statistics::getDomainDataRegionStatistics);
+            hitRatio(registry, USERS_REGION, statistics, Statistics::getDomainDataRegionStatistics);
+            hitRatio(registry, QUERY_RESULTS_REGION, statistics, Statistics::getQueryRegionStatistics);
+        };
+    }
+
+    private static void hitRatio(MeterRegistry registry, String region, Statistics statistics,
+                                 BiFunction<Statistics, String, CacheRegionStatistics> regionStatistics) {
+        Gauge.builder("hibernate.cache.hit.ratio", statistics, stats -> {
+                    CacheRegionStatistics cache = regionStatistics.apply(stats, region);
+                    long requests = cache.getHitCount() + cache.getMissCount();
+                    return requests == 0 ? Double.NaN : (double) cache.getHitCount() / requests;
+                })
+                .description("Share of second-level cache lookups served from the cache")
+                .tag("region", region)
+                .register(registry);
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.taskapi.controller;
 
 import com.example.taskapi.dto.CreateTaskRequest;
+import com.example.taskapi.dto.TaskSummary;
 import com.example.taskapi.dto.UpdateTaskRequest;
 import com.example.taskapi.entity.Task;
 import com.example.taskapi.entity.TaskStatus;
@@ -25,7 +26,7 @@ public class TaskController {
 
     @GetMapping
     @PreAuthorize("hasRole('ROLE_USER')")
-    public ResponseEntity<List<Task>> getAllTasks() {
+    public ResponseEntity<List<TaskSummary>> getAllTasks() {
         return ResponseEntity.ok(taskService.getAllTasks());
     }
 
@@ -82,13 +83,13 @@ public class TaskController {
 
     @GetMapping("/status/{status}")
     @PreAuthorize("hasRole('ROLE_USER')")
-    public ResponseEntity<List<Task>> getTasksByStatus(@PathVariable TaskStatus status) {
+    public ResponseEntity<List<TaskSummary>> getTasksByStatus(@PathVariable TaskStatus status) {
         return ResponseEntity.ok(taskService.getTasksByStatus(status));
     }
 
     @GetMapping("/search")
     @PreAuthorize("hasRole('ROLE_USER')")
-    public ResponseEntity<List<Task>> searchTasks(@RequestParam String title) {
+    public ResponseEntity<List<TaskSummary>> searchTasks(@RequestParam String title) {
         return ResponseEntity.ok(taskService.searchTasksByTitle(title));
     }
 }
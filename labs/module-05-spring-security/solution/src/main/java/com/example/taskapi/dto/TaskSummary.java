@@ -0,0 +1,17 @@
+package com.example.taskapi.dto;
+
+import com.example.taskapi.entity.TaskPriority;
+import com.example.taskapi.entity.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * List view of a task, selected column-by-column instead of loading the entity.
+ */
+public record TaskSummary(
+        Long id,
+        String title,
+        TaskStatus status,
+        TaskPriority priority,
+        LocalDateTime dueDate) {
+}
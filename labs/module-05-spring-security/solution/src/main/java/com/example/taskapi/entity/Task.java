@@ -1,9 +1,13 @@
 package com.example.taskapi.entity;
 
+import com.example.taskapi.config.CacheConfig;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfig.TASKS_REGION)
 @Table(name = "tasks")
 public class Task {
 
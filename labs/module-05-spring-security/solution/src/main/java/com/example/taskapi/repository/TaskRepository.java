@@ -1,16 +1,34 @@
 package com.example.taskapi.repository;
 
+import com.example.taskapi.dto.TaskSummary;
 import com.example.taskapi.entity.Task;
 import com.example.taskapi.entity.TaskStatus;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
     List<Task> findByStatus(TaskStatus status);
 
-    List<Task> findByTitleContainingIgnoreCase(String title);
+    // DTO projections for list endpoints - only the listed columns are selected
+    @Query("SELECT new com.example.taskapi.dto.TaskSummary(t.id, t.title, t.status, t.priority, t.dueDate) FROM Task t")
+    List<TaskSummary> findAllSummaries();
+
+    // Cached query results are invalidated whenever the tasks table is written
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    @Query("SELECT new com.example.taskapi.dto.TaskSummary(t.id, t.title, t.status, t.priority, t.dueDate) " +
+           "FROM Task t WHERE t.status = :status")
+    List<TaskSummary> findSummariesByStatus(@Param("status") TaskStatus status);
+
+    // Derived LIKE escapes % and _ in the search text
+    List<TaskSummary> findSummariesByTitleContainingIgnoreCase(String title);
 }
@@ -1,5 +1,6 @@
 package com.example.taskapi.service;
 
+import com.example.taskapi.dto.TaskSummary;
 import com.example.taskapi.entity.Task;
 import com.example.taskapi.entity.TaskStatus;
 import com.example.taskapi.exception.TaskNotFoundException;
@@ -17,8 +18,8 @@ public class TaskService {
         this.taskRepository = taskRepository;
     }
 
-    public List<Task> getAllTasks() {
-        return taskRepository.findAll();
+    public List<TaskSummary> getAllTasks() {
+        return taskRepository.findAllSummaries();
     }
 
     public Task getTaskById(Long id) {
@@ -57,11 +58,11 @@ public class TaskService {
         taskRepository.delete(task);
     }
 
-    public List<Task> getTasksByStatus(TaskStatus status) {
-        return taskRepository.findByStatus(status);
+    public List<TaskSummary> getTasksByStatus(TaskStatus status) {
+        return taskRepository.findSummariesByStatus(status);
     }
 
-    public List<Task> searchTasksByTitle(String title) {
-        return taskRepository.findByTitleContainingIgnoreCase(title);
+    public List<TaskSummary> searchTasksByTitle(String title) {
+        return taskRepository.findSummariesByTitleContainingIgnoreCase(title);
     }
 }
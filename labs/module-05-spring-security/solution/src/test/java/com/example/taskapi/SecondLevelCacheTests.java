@@ -0,0 +1,102 @@
+package com.example.taskapi;
+
+import com.example.taskapi.config.CacheConfig;
+import com.example.taskapi.dto.TaskSummary;
+import com.example.taskapi.entity.Role;
+import com.example.taskapi.entity.Task;
+import com.example.taskapi.entity.TaskStatus;
+import com.example.taskapi.entity.User;
+import com.example.taskapi.repository.UserRepository;
+import com.example.taskapi.service.CustomUserDetailsService;
+import com.example.taskapi.service.TaskService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Not @Transactional: each call must run in its own transaction for the second-level cache to serve it
+@SpringBootTest
+class SecondLevelCacheTests {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void resetStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void cachedSummariesByStatusAreInvalidatedByWrites() {
+        Task task = taskService.createTask(new Task("Cache me", null));
+        try {
+            assertFalse(summaryIds(TaskStatus.IN_PROGRESS).contains(task.getId()));
+            assertFalse(summaryIds(TaskStatus.IN_PROGRESS).contains(task.getId()));
+            assertEquals(1, statistics.getQueryCacheHitCount());
+
+            Task changes = new Task();
+            changes.setStatus(TaskStatus.IN_PROGRESS);
+            taskService.updateTask(task.getId(), changes);
+
+            assertTrue(summaryIds(TaskStatus.IN_PROGRESS).contains(task.getId()));
+            assertEquals(1, statistics.getQueryCacheHitCount());
+        } finally {
+            taskService.deleteTask(task.getId());
+        }
+        assertFalse(summaryIds(TaskStatus.IN_PROGRESS).contains(task.getId()));
+    }
+
+    @Test
+    void cachedUserReflectsRoleChanges() {
+        User user = new User("cached", "secret", "cached@example.com");
+        user.setRoles(Set.of(Role.ROLE_USER));
+        user = userRepository.save(user);
+        try {
+            assertEquals(Set.of("ROLE_USER"), authorities(userDetailsService.loadUserByUsername("cached")));
+            long hits = statistics.getDomainDataRegionStatistics(CacheConfig.USERS_REGION).getHitCount();
+            assertEquals(Set.of("ROLE_USER"), authorities(userDetailsService.loadUserByUsername("cached")));
+            assertTrue(statistics.getDomainDataRegionStatistics(CacheConfig.USERS_REGION).getHitCount() > hits);
+
+            User promoted = userRepository.findByUsername("cached").orElseThrow();
+            promoted.setRoles(new HashSet<>(Set.of(Role.ROLE_USER, Role.ROLE_ADMIN)));
+            userRepository.save(promoted);
+
+            assertEquals(Set.of("ROLE_USER", "ROLE_ADMIN"),
+                    authorities(userDetailsService.loadUserByUsername("cached")));
+        } finally {
+            userRepository.delete(user);
+        }
+    }
+
+    private List<Long> summaryIds(TaskStatus status) {
+        return taskService.getTasksByStatus(status).stream().map(TaskSummary::id).toList();
+    }
+
+    private static Set<String> authorities(UserDetails user) {
+        return user.getAuthorities().stream().map(GrantedAuthority::getAuthority).collect(Collectors.toSet());
+    }
+}
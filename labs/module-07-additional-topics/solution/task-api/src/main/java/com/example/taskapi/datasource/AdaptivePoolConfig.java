@@ -0,0 +1,22 @@
+package com.example.taskapi.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(AdaptivePoolProperties.class)
+@ConditionalOnProperty(prefix = "app.datasource.adaptive-pool", name = "enabled", havingValue = "true")
+public class AdaptivePoolConfig {
+
+    @Bean
+    public AdaptivePoolSizer adaptivePoolSizer(HikariDataSource dataSource, MeterRegistry registry,
+                                               AdaptivePoolProperties properties) {
+        return new AdaptivePoolSizer(dataSource, registry, properties);
+    }
+}
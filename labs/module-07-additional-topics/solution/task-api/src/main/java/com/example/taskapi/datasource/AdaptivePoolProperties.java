@@ -0,0 +1,95 @@
+package com.example.taskapi.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.datasource.adaptive-pool")
+public class AdaptivePoolProperties {
+
+    // The pool keeps its configured size unless this is switched on
+    private boolean enabled;
+
+    private int minSize = 5;
+
+    private int maxSize = 30;
+
+    // Connections added per tick while requests are waiting for the pool
+    private int step = 2;
+
+    private Duration interval = Duration.ofSeconds(10);
+
+    // Mean wait for a connection above which the pool counts as starved
+    private Duration targetAcquireTime = Duration.ofMillis(10);
+
+    // Share of the proportional throughput gain a grow step must deliver to be kept;
+    // a smaller gain means the database, not the pool, is the bottleneck
+    private double minGrowthGain = 0.25;
+
+    // Consecutive mostly-idle ticks before the pool gives a connection back
+    private int idleTicksBeforeShrink = 6;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMinSize() {
+        return minSize;
+    }
+
+    public void setMinSize(int minSize) {
+        this.minSize = minSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public int getStep() {
+        return step;
+    }
+
+    public void setStep(int step) {
+        this.step = step;
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+
+    public Duration getTargetAcquireTime() {
+        return targetAcquireTime;
+    }
+
+    public void setTargetAcquireTime(Duration targetAcquireTime) {
+        this.targetAcquireTime = targetAcquireTime;
+    }
+
+    public double getMinGrowthGain() {
+        return minGrowthGain;
+    }
+
+    public void setMinGrowthGain(double minGrowthGain) {
+        this.minGrowthGain = minGrowthGain;
+    }
+
+    public int getIdleTicksBeforeShrink() {
+        return idleTicksBeforeShrink;
+    }
+
+    public void setIdleTicksBeforeShrink(int idleTicksBeforeShrink) {
+        this.idleTicksBeforeShrink = idleTicksBeforeShrink;
+    }
+}
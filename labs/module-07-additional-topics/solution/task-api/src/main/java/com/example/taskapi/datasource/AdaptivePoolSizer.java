@@ -0,0 +1,174 @@
+package com.example.taskapi.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resizes the Hikari pool between configured bounds from the pool's own metrics.
+ * The pool grows while requests queue for a connection. Each grow step is checked
+ * against throughput, derived from active connections and how long each is held: if
+ * the extra connections did not get more work through, the database is saturated
+ * and they only make every query slower, so the step is undone and that size is kept
+ * as a ceiling for a while before probing again. A pool that stays mostly idle gives
+ * connections back one at a time.
+ *
+ * Shrinking lowers the maximum only, and Hikari closes nothing right away: it opens no
+ * new connections while the pool is over the maximum, and its housekeeper retires idle
+ * connections above minimum-idle only once they have been idle for idle-timeout. Any
+ * others go when they reach max-lifetime. A shrink therefore takes effect up to
+ * idle-timeout later, or max-lifetime later on a pool that is never idle that long.
+ */
+public class AdaptivePoolSizer {
+
+    private static final Logger log = LoggerFactory.getLogger(AdaptivePoolSizer.class);
+
+    // Fewer returned connections than this in a tick say too little about latency
+    private static final int MIN_USAGE_SAMPLES = 10;
+
+    private static final int CEILING_HOLD_TICKS = 30;
+
+    private final HikariDataSource dataSource;
+    private final MeterRegistry registry;
+    private final AdaptivePoolProperties properties;
+
+    private long lastAcquireCount;
+    private double lastAcquireMillis;
+    private long lastUsageCount;
+    private double lastUsageMillis;
+
+    private int grownFrom;
+    private double throughputBeforeGrowth;
+    private int ceiling;
+    private int ceilingTicks;
+    private int idleTicks;
+
+    public AdaptivePoolSizer(HikariDataSource dataSource, MeterRegistry registry, AdaptivePoolProperties properties) {
+        if (properties.getMinSize() < 1 || properties.getMaxSize() < properties.getMinSize()) {
+            throw new IllegalArgumentException("Adaptive pool bounds must satisfy 1 <= min-size <= max-size");
+        }
+        this.dataSource = dataSource;
+        this.registry = registry;
+        this.properties = properties;
+        this.ceiling = properties.getMaxSize();
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.adaptive-pool.interval:10s}")
+    public synchronized void adjust() {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            return; // not started yet
+        }
+        int size = dataSource.getHikariConfigMXBean().getMaximumPoolSize();
+        int next = nextSize(sample(size, pool));
+        if (next != size) {
+            log.info("Resizing connection pool {} from {} to {} connections", dataSource.getPoolName(), size, next);
+            dataSource.getHikariConfigMXBean().setMaximumPoolSize(next);
+            registry.counter("hikaricp.adaptive.resizes",
+                    "pool", dataSource.getPoolName(),
+                    "direction", next > size ? "grow" : "shrink").increment();
+        }
+    }
+
+    /**
+     * Decides the pool size for the next interval; called once per tick.
+     */
+    int nextSize(Sample sample) {
+        int size = sample.size();
+        if (ceilingTicks > 0 && --ceilingTicks == 0) {
+            ceiling = properties.getMaxSize();
+        }
+
+        // A grow step that did not raise throughput while requests still queue only
+        // made every query slower: undo it and stay below that size for a while
+        int previous = grownFrom;
+        grownFrom = 0;
+        if (previous > 0 && sample.pending() > 0 && sample.usageMillis() > 0) {
+            double expected = throughputBeforeGrowth
+                    * (1 + properties.getMinGrowthGain() * (size - previous) / previous);
+            if (throughput(sample) < expected) {
+                idleTicks = 0;
+                ceiling = previous;
+                ceilingTicks = CEILING_HOLD_TICKS;
+                return previous;
+            }
+        }
+
+        boolean starved = sample.pending() > 0
+                || sample.acquireMillis() > properties.getTargetAcquireTime().toNanos() / 1_000_000.0;
+        if (starved) {
+            idleTicks = 0;
+            int next = Math.min(size + properties.getStep(), ceiling);
+            if (next <= size) {
+                return size;
+            }
+            if (sample.usageMillis() > 0) {
+                grownFrom = size;
+                throughputBeforeGrowth = throughput(sample);
+            }
+            return next;
+        }
+
+        if (sample.active() * 2 < size && size > properties.getMinSize()) {
+            if (++idleTicks >= properties.getIdleTicksBeforeShrink()) {
+                idleTicks = 0;
+                return size - 1;
+            }
+        } else {
+            idleTicks = 0;
+        }
+        return size;
+    }
+
+    // Queries completed per millisecond, by Little's law
+    private static double throughput(Sample sample) {
+        return sample.active() / sample.usageMillis();
+    }
+
+    private Sample sample(int size, HikariPoolMXBean pool) {
+        double acquireMillis = 0;
+        Timer acquire = timer("hikaricp.connections.acquire");
+        if (acquire != null) {
+            long count = acquire.count();
+            double total = acquire.totalTime(TimeUnit.MILLISECONDS);
+            acquireMillis = meanSince(lastAcquireCount, lastAcquireMillis, count, total, 1);
+            lastAcquireCount = count;
+            lastAcquireMillis = total;
+        }
+
+        double usageMillis = 0;
+        Timer usage = timer("hikaricp.connections.usage");
+        if (usage != null) {
+            long count = usage.count();
+            double total = usage.totalTime(TimeUnit.MILLISECONDS);
+            usageMillis = meanSince(lastUsageCount, lastUsageMillis, count, total, MIN_USAGE_SAMPLES);
+            lastUsageCount = count;
+            lastUsageMillis = total;
+        }
+
+        return new Sample(size, pool.getActiveConnections(), pool.getThreadsAwaitingConnection(),
+                acquireMillis, usageMillis);
+    }
+
+    private Timer timer(String name) {
+        return registry.find(name).tag("pool", dataSource.getPoolName()).timer();
+    }
+
+    private static double meanSince(long lastCount, double lastTotal, long count, double total, int minSamples) {
+        long samples = count - lastCount;
+        return samples >= minSamples ? (total - lastTotal) / samples : 0;
+    }
+
+    /**
+     * What the pool looked like over the last tick. Wait and hold times are means over
+     * the connections acquired or returned during the tick, or 0 when too few were.
+     */
+    record Sample(int size, int active, int pending, double acquireMillis, double usageMillis) {
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.taskapi.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptivePoolSizerTest {
+
+    private MeterRegistry registry;
+    private HikariDataSource dataSource;
+    private AdaptivePoolProperties properties;
+    private AdaptivePoolSizer sizer;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:hsqldb:mem:pooltest");
+        config.setUsername("sa");
+        config.setPassword("");
+        config.setPoolName("pooltest");
+        config.setMaximumPoolSize(2);
+        config.setMinimumIdle(1);
+        config.setConnectionTimeout(10_000);
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        dataSource = new HikariDataSource(config);
+
+        properties = new AdaptivePoolProperties();
+        properties.setMinSize(2);
+        properties.setMaxSize(30);
+        properties.setIdleTicksBeforeShrink(3);
+        sizer = new AdaptivePoolSizer(dataSource, registry, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void adjust_WhenRequestsWaitForConnection_GrowsPool() throws Exception {
+        // Given: every connection is taken and another request is waiting
+        try (Connection first = dataSource.getConnection(); Connection second = dataSource.getConnection()) {
+            CompletableFuture<Boolean> waiting = CompletableFuture.supplyAsync(() -> {
+                try (Connection third = dataSource.getConnection()) {
+                    return third.isValid(1);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            awaitWaitingThreads(1);
+
+            // When
+            sizer.adjust();
+
+            // Then
+            assertThat(dataSource.getHikariConfigMXBean().getMaximumPoolSize()).isEqualTo(4);
+            assertThat(waiting.get(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(registry.counter("hikaricp.adaptive.resizes", "pool", "pooltest", "direction", "grow").count())
+                    .isEqualTo(1);
+        }
+    }
+
+    @Test
+    void adjust_WhenPoolIsIdle_ShrinksDownToMinSize() {
+        // Given
+        dataSource.getHikariConfigMXBean().setMaximumPoolSize(4);
+
+        // When
+        for (int tick = 0; tick < 10; tick++) {
+            sizer.adjust();
+        }
+
+        // Then
+        assertThat(dataSource.getHikariConfigMXBean().getMaximumPoolSize()).isEqualTo(2);
+    }
+
+    @Test
+    void nextSize_UnderSustainedLoad_GrowsToDatabaseCapacityWithoutOversubscribing() {
+        // Given: 40 clients always want a connection, and the database runs 12 queries
+        // at a time; beyond that every extra connection slows all queries down
+        SimulatedDatabase database = new SimulatedDatabase(12, 5.0, 40);
+        int size = 5;
+        int largest = size;
+
+        // When
+        for (int tick = 0; tick < 60; tick++) {
+            size = sizer.nextSize(database.tick(size));
+            largest = Math.max(largest, size);
+        }
+
+        // Then: the pool reaches the database's capacity (no starvation of the database),
+        // never overshoots it by more than one step, and keeps queries within 20% of base latency
+        assertThat(size).isGreaterThanOrEqualTo(12);
+        assertThat(largest).isLessThanOrEqualTo(16);
+        assertThat(database.tick(size).usageMillis()).isLessThanOrEqualTo(5.0 * 1.2);
+    }
+
+    @Test
+    void nextSize_WhenDatabaseKeepsUp_GrowsOnlyToMaxSize() {
+        // Given: the database never slows down, so only the configured bound stops growth
+        SimulatedDatabase database = new SimulatedDatabase(1_000, 5.0, 100);
+        int size = 5;
+
+        // When
+        for (int tick = 0; tick < 60; tick++) {
+            size = sizer.nextSize(database.tick(size));
+        }
+
+        // Then
+        assertThat(size).isEqualTo(properties.getMaxSize());
+    }
+
+    @Test
+    void nextSize_WhenLoadDrops_ReleasesConnections() {
+        // Given: the pool grew under load
+        SimulatedDatabase database = new SimulatedDatabase(12, 5.0, 40);
+        int size = 5;
+        for (int tick = 0; tick < 30; tick++) {
+            size = sizer.nextSize(database.tick(size));
+        }
+
+        // When: only 3 clients remain
+        SimulatedDatabase quiet = new SimulatedDatabase(12, 5.0, 3);
+        for (int tick = 0; tick < 60; tick++) {
+            size = sizer.nextSize(quiet.tick(size));
+        }
+
+        // Then
+        assertThat(size).isLessThanOrEqualTo(6);
+    }
+
+    private void awaitWaitingThreads(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (dataSource.getHikariPoolMXBean().getThreadsAwaitingConnection() < count) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Closed-loop load model: a fixed number of clients each hold a connection while a
+     * query runs. Up to {@code capacity} queries run at base latency; more queries
+     * share the database and each takes proportionally longer.
+     */
+    private record SimulatedDatabase(int capacity, double baseMillis, int clients) {
+
+        AdaptivePoolSizer.Sample tick(int poolSize) {
+            int active = Math.min(poolSize, clients);
+            int pending = clients - active;
+            double usageMillis = baseMillis * Math.max(1.0, (double) active / capacity);
+            double acquireMillis = pending > 0 ? usageMillis * pending / active : 0;
+            return new AdaptivePoolSizer.Sample(poolSize, active, pending, acquireMillis, usageMillis);
+        }
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.time.LocalDate;
+import java.util.List;
 
 @Configuration
 public class DataInitializer {
@@ -23,7 +24,6 @@ public class DataInitializer {
             task1.setPriority(TaskPriority.HIGH);
             task1.setStatus(TaskStatus.IN_PROGRESS);
             task1.setDueDate(LocalDate.now().plusDays(7));
-            repository.save(task1);
 
             Task task2 = new Task();
             task2.setTitle("Review pull requests");
@@ -31,7 +31,6 @@ public class DataInitializer {
             task2.setPriority(TaskPriority.MEDIUM);
             task2.setStatus(TaskStatus.PENDING);
             task2.setDueDate(LocalDate.now().plusDays(2));
-            repository.save(task2);
 
             Task task3 = new Task();
             task3.setTitle("Setup CI/CD pipeline");
@@ -39,7 +38,6 @@ public class DataInitializer {
             task3.setPriority(TaskPriority.HIGH);
             task3.setStatus(TaskStatus.PENDING);
             task3.setDueDate(LocalDate.now().plusDays(14));
-            repository.save(task3);
 
             Task task4 = new Task();
             task4.setTitle("Update dependencies");
@@ -47,7 +45,8 @@ public class DataInitializer {
             task4.setPriority(TaskPriority.LOW);
             task4.setStatus(TaskStatus.COMPLETED);
             task4.setDueDate(LocalDate.now().minusDays(1));
-            repository.save(task4);
+
+            repository.saveAll(List.of(task1, task2, task3, task4));
 
             System.out.println("Sample data initialized - 4 tasks created");
             System.out.println("Access Swagger UI at: http://localhost:8080/swagger-ui.html");